@@ -30,6 +30,7 @@ import javax.annotation.Nonnull;
 /**
  * AdminCommands - Collection of admin commands under /ir
  * Usage: /ir config - Opens the config UI panel
+ *        /ir metrics, /ir metricsreset - Damage pipeline metrics
  */
 public class AdminCommands extends AbstractCommandCollection {
 
@@ -47,6 +48,10 @@ public class AdminCommands extends AbstractCommandCollection {
         // FreePet admin commands
         this.addSubCommand(new GiveFreePetCommand());
         this.addSubCommand(new ClearFreePetsCommand());
+
+        // Damage pipeline metrics
+        this.addSubCommand(new MetricsCommand());
+        this.addSubCommand(new MetricsResetCommand());
     }
 
     private static class ConfigCommand extends AbstractPlayerCommand {
@@ -290,4 +295,45 @@ public class AdminCommands extends AbstractCommandCollection {
             player.sendMessage(Message.raw("[Pet] Free Fox granted! Timer starts when pet is summoned."));
         }
     }
+
+    private static class MetricsCommand extends AbstractPlayerCommand {
+
+        public MetricsCommand() {
+            super("metrics", "Show ring damage pipeline metrics");
+            this.setPermissionGroup(GameMode.Creative);
+        }
+
+        @Override
+        protected void execute(
+                @Nonnull CommandContext context,
+                @Nonnull Store<EntityStore> store,
+                @Nonnull Ref<EntityStore> ref,
+                @Nonnull PlayerRef playerRef,
+                @Nonnull World world) {
+
+            for (String line : DamageMetrics.report()) {
+                context.sendMessage(Message.raw(line));
+            }
+        }
+    }
+
+    private static class MetricsResetCommand extends AbstractPlayerCommand {
+
+        public MetricsResetCommand() {
+            super("metricsreset", "Reset ring damage pipeline metrics");
+            this.setPermissionGroup(GameMode.Creative);
+        }
+
+        @Override
+        protected void execute(
+                @Nonnull CommandContext context,
+                @Nonnull Store<EntityStore> store,
+                @Nonnull Ref<EntityStore> ref,
+                @Nonnull PlayerRef playerRef,
+                @Nonnull World world) {
+
+            DamageMetrics.reset();
+            context.sendMessage(Message.raw("[IR] Damage metrics reset."));
+        }
+    }
 }
@@ -0,0 +1,77 @@
+package com.tiffy.flyring;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AliasSampler - O(1) weighted index sampling (Walker/Vose alias method).
+ *
+ * Built once from a weight array; each draw is one random int, one random
+ * double and two array reads regardless of how many outcomes there are.
+ * Immutable after construction, safe to share between world threads.
+ */
+public final class AliasSampler {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param weights non-negative weights, at least one of them positive
+     */
+    public AliasSampler(double[] weights) {
+        int n = weights.length;
+        double total = 0;
+        for (double w : weights) {
+            total += Math.max(0, w);
+        }
+        if (n == 0 || total <= 0) {
+            throw new IllegalArgumentException("AliasSampler needs at least one positive weight");
+        }
+
+        probability = new double[n];
+        alias = new int[n];
+
+        // Scale so the average bucket is 1.0, then pair small with large buckets
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = Math.max(0, weights[i]) * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int s = small[--smallCount];
+            int l = large[--largeCount];
+            probability[s] = scaled[s];
+            alias[s] = l;
+            scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+            if (scaled[l] < 1.0) {
+                small[smallCount++] = l;
+            } else {
+                large[largeCount++] = l;
+            }
+        }
+        // Leftovers are full buckets (floating point rounding ends up here too)
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0;
+        }
+    }
+
+    public int size() {
+        return probability.length;
+    }
+
+    public int sample(ThreadLocalRandom random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+}
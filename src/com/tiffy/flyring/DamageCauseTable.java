@@ -0,0 +1,113 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageCause;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * DamageCauseTable - Category bitmask per DamageCause asset index.
+ *
+ * Built once when DamageCause assets load (keyword match on the cause ID),
+ * then patched with config overrides for modded causes. Immunity checks are
+ * one array read and one bit test per damage event.
+ */
+public class DamageCauseTable {
+
+    public static final int FIRE = 1;
+    public static final int WATER = 1 << 1;
+    public static final int FALL = 1 << 2;
+
+    private static volatile int[] categories = new int[0];
+
+    /**
+     * Category bits for a damage event (0 if none apply).
+     */
+    public static int categoriesOf(Damage event) {
+        int index = event.getDamageCauseIndex();
+        int[] table = categories;
+        if (index >= 0 && index < table.length) {
+            return table[index];
+        }
+        // Cause registered after the last rebuild - classify directly
+        DamageCause cause = event.getCause();
+        return (cause != null) ? categoriesOf(cause.getId()) : 0;
+    }
+
+    /**
+     * Rebuilds the table from the DamageCause asset map plus config overrides.
+     * Called on DamageCause asset (re)load and whenever the config is published
+     * (load, config page save) via ModConfig.publishRuntime.
+     */
+    public static synchronized void rebuild() {
+        try {
+            Map<String, DamageCause> causes = DamageCause.getAssetMap().getAssetMap();
+            int maxIndex = -1;
+            for (String id : causes.keySet()) {
+                maxIndex = Math.max(maxIndex, DamageCause.getAssetMap().getIndex(id));
+            }
+
+            int[] table = new int[maxIndex + 1];
+            for (String id : causes.keySet()) {
+                int index = DamageCause.getAssetMap().getIndex(id);
+                if (index >= 0) {
+                    table[index] = categoriesOf(id);
+                }
+            }
+            categories = table;
+        } catch (Throwable ignored) {
+            // Assets not loaded yet - categoriesOf falls back to the cause ID
+        }
+    }
+
+    /**
+     * Classifies a cause ID: config override first, keyword match otherwise.
+     */
+    static int categoriesOf(String causeId) {
+        if (causeId == null)
+            return 0;
+
+        Map<String, List<String>> overrides = null;
+        ModConfig.Config cfg = ModConfig.getInstance();
+        if (cfg != null && cfg.gameplay != null) {
+            overrides = cfg.gameplay.damageCauseCategories;
+        }
+        if (overrides != null && overrides.containsKey(causeId)) {
+            int mask = 0;
+            List<String> names = overrides.get(causeId);
+            if (names != null) {
+                for (String name : names) {
+                    mask |= parseCategory(name);
+                }
+            }
+            return mask;
+        }
+
+        String id = causeId.toLowerCase(Locale.ROOT);
+        int mask = 0;
+        if (id.contains("fire") || id.contains("lava") || id.contains("magma") || id.contains("burn")
+                || id.contains("hot")) {
+            mask |= FIRE;
+        }
+        if (id.contains("drown") || id.contains("water")) {
+            mask |= WATER;
+        }
+        if (id.contains("fall") || id.contains("impact")) {
+            mask |= FALL;
+        }
+        return mask;
+    }
+
+    private static int parseCategory(String name) {
+        if (name == null)
+            return 0;
+        return switch (name.trim().toUpperCase(Locale.ROOT)) {
+            case "FIRE" -> FIRE;
+            case "WATER" -> WATER;
+            case "FALL" -> FALL;
+            default -> 0;
+        };
+    }
+}
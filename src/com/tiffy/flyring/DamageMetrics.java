@@ -0,0 +1,155 @@
+package com.tiffy.flyring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DamageMetrics - Always-on counters for the ring damage pipeline.
+ *
+ * LongAdders only (no locks, no allocation on record). Handler latency goes into
+ * a log2 histogram per stage: bucket i holds durations in [2^(i-1), 2^i) ns.
+ * Read and reset via /ir metrics and /ir metricsreset.
+ */
+public class DamageMetrics {
+
+    public static final int STAGE_IMMUNITY = 0;
+    public static final int STAGE_ATTACKER = 1;
+    public static final int STAGE_KILL = 2;
+    private static final String[] STAGE_NAMES = { "immunity", "attacker", "kill" };
+
+    private static final String[] RING_NAMES = { "Fly", "Fire", "Water", "Heal", "Peaceful" };
+    private static final String[] CATEGORY_NAMES = { "fire", "water", "fall", "other" };
+    private static final int BUCKETS = 64;
+
+    private static final LongAdder[] eventsSeen = adders(STAGE_NAMES.length);
+    private static final LongAdder[] blockedByRing = adders(RING_NAMES.length);
+    private static final LongAdder[] blockedByCategory = adders(CATEGORY_NAMES.length);
+    private static final LongAdder lifestealHits = new LongAdder();
+    private static final LongAdder killDetections = new LongAdder();
+    private static final LongAdder[][] latency = new LongAdder[STAGE_NAMES.length][];
+
+    static {
+        for (int i = 0; i < latency.length; i++) {
+            latency[i] = adders(BUCKETS);
+        }
+    }
+
+    public static void recordEvent(int stage, long startNanos) {
+        eventsSeen[stage].increment();
+        long elapsed = System.nanoTime() - startNanos;
+        latency[stage][Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, elapsed)))].increment();
+    }
+
+    /**
+     * @param ringBit    RingStateComponent bit of the ring that blocked the hit
+     * @param categories DamageCauseTable bits of the blocked cause
+     */
+    public static void recordBlocked(int ringBit, int categories) {
+        blockedByRing[Integer.numberOfTrailingZeros(ringBit)].increment();
+        if (categories == 0) {
+            blockedByCategory[CATEGORY_NAMES.length - 1].increment();
+            return;
+        }
+        for (int i = 0; i < CATEGORY_NAMES.length - 1; i++) {
+            if ((categories & (1 << i)) != 0) {
+                blockedByCategory[i].increment();
+            }
+        }
+    }
+
+    public static void recordLifestealHit() {
+        lifestealHits.increment();
+    }
+
+    public static void recordKill() {
+        killDetections.increment();
+    }
+
+    public static void reset() {
+        resetAll(eventsSeen);
+        resetAll(blockedByRing);
+        resetAll(blockedByCategory);
+        lifestealHits.reset();
+        killDetections.reset();
+        for (LongAdder[] histogram : latency) {
+            resetAll(histogram);
+        }
+    }
+
+    /**
+     * Human-readable report, one line per entry.
+     */
+    public static List<String> report() {
+        List<String> lines = new ArrayList<>();
+        for (int stage = 0; stage < STAGE_NAMES.length; stage++) {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                counts[b] = latency[stage][b].sum();
+                total += counts[b];
+            }
+            lines.add("[IR] " + STAGE_NAMES[stage] + ": " + eventsSeen[stage].sum() + " events, p50 < "
+                    + formatNanos(percentile(counts, total, 0.50)) + ", p99 < "
+                    + formatNanos(percentile(counts, total, 0.99)) + ", max < "
+                    + formatNanos(percentile(counts, total, 1.0)));
+        }
+
+        StringBuilder rings = new StringBuilder("[IR] blocked by ring:");
+        for (int i = 0; i < RING_NAMES.length; i++) {
+            rings.append(' ').append(RING_NAMES[i]).append('=').append(blockedByRing[i].sum());
+        }
+        lines.add(rings.toString());
+
+        StringBuilder categories = new StringBuilder("[IR] blocked by cause:");
+        for (int i = 0; i < CATEGORY_NAMES.length; i++) {
+            categories.append(' ').append(CATEGORY_NAMES[i]).append('=').append(blockedByCategory[i].sum());
+        }
+        lines.add(categories.toString());
+
+        lines.add("[IR] lifesteal hits: " + lifestealHits.sum() + ", kills detected: " + killDetections.sum());
+        lines.add("[IR] ring refresh: " + RingRefreshSystem.getRefreshedCount() + " refreshed / "
+                + RingRefreshSystem.getRequestedCount() + " requested ("
+                + RingRefreshSystem.getCoalescedCount() + " coalesced), movement packets: "
+                + FlyRing.getMovementPacketsSent() + " sent / " + FlyRing.getMovementPacketsSuppressed()
+                + " suppressed");
+        return lines;
+    }
+
+    /** Upper bound (ns) of the bucket containing the given quantile, 0 if empty. */
+    private static long percentile(long[] counts, long total, double quantile) {
+        if (total == 0)
+            return 0;
+        long target = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int b = 0; b < counts.length; b++) {
+            seen += counts[b];
+            if (seen >= target && counts[b] > 0) {
+                return (b >= 63) ? Long.MAX_VALUE : (1L << b);
+            }
+        }
+        return 0;
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos >= 1_000_000)
+            return String.format("%.1fms", nanos / 1_000_000.0);
+        if (nanos >= 1_000)
+            return String.format("%.1fus", nanos / 1_000.0);
+        return nanos + "ns";
+    }
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] result = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new LongAdder();
+        }
+        return result;
+    }
+
+    private static void resetAll(LongAdder[] adders) {
+        for (LongAdder adder : adders) {
+            adder.reset();
+        }
+    }
+}
@@ -15,7 +15,7 @@ import java.awt.Color;
 /**
  * FireRing - Handler for the Fire Ring.
  * Manages the list of immune players based on inventory contents.
- * Damage filtering is performed by RingDamageSystem.
+ * Damage filtering is performed by RingImmunitySystem.
  */
 public class FireRing {
 
@@ -51,11 +51,8 @@ public class FireRing {
             return;
 
         boolean hasFireRing = snapshot.hasFire || snapshot.hasGaia;
-        if (hasFireRing) {
-            ModConfig.Config mcfg = ModConfig.getInstance();
-            if (mcfg != null && mcfg.enabled != null && !mcfg.enabled.fireRing) {
-                hasFireRing = false;
-            }
+        if (hasFireRing && !ModConfig.runtime().fireRing) {
+            hasFireRing = false;
         }
         UUID uuid = RingUtils.getUUID(player);
         if (uuid == null) {
@@ -63,15 +60,17 @@ public class FireRing {
             return;
         }
 
+        RingStateComponent.update(player, RingStateComponent.FIRE, hasFireRing);
+
         if (hasFireRing) {
             if (fireImmunePlayers.add(uuid)) {
                 AnalyticsClient.reportRingState("FIRE_RING", true);
-                Log.info(plugin, "[FireRing] " + RingUtils.getUsername(player) + " equipped fire ring");
+                Log.info(Log.Category.RINGS, () -> "[FireRing] " + RingUtils.getUsername(player) + " equipped fire ring");
             }
         } else {
             if (fireImmunePlayers.remove(uuid)) {
                 AnalyticsClient.reportRingState("FIRE_RING", false);
-                Log.info(plugin, "[FireRing] " + RingUtils.getUsername(player) + " removed fire ring");
+                Log.info(Log.Category.RINGS, () -> "[FireRing] " + RingUtils.getUsername(player) + " removed fire ring");
             }
         }
     }
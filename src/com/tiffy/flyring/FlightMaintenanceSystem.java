@@ -0,0 +1,81 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.protocol.MovementSettings;
+import com.hypixel.hytale.protocol.MovementStates;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.entity.entities.player.movement.MovementManager;
+import com.hypixel.hytale.server.core.entity.movement.MovementStatesComponent;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * FlightMaintenanceSystem - Keeps ring flight alive for tagged players.
+ *
+ * Replaces the old 1-second heartbeat. Runs only for players with a
+ * FlightRingTag and re-grants flight when canFly was actually lost, or resyncs
+ * the client after a mount / sit / sleep transition (those reset client flight).
+ */
+public class FlightMaintenanceSystem extends EntityTickingSystem<EntityStore> {
+
+    private final FlyRing flyHandler;
+
+    public FlightMaintenanceSystem(FlyRing flyHandler) {
+        this.flyHandler = flyHandler;
+    }
+
+    @Override
+    @Nonnull
+    public Query<EntityStore> getQuery() {
+        return Query.and(FlightRingTag.getComponentType(), Player.getComponentType(),
+                MovementManager.getComponentType(), MovementStatesComponent.getComponentType());
+    }
+
+    @Override
+    public void tick(float delta, int index, @Nonnull ArchetypeChunk<EntityStore> chunk,
+            @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> buffer) {
+        try {
+            FlightRingTag tag = chunk.getComponent(index, FlightRingTag.getComponentType());
+            MovementStatesComponent statesComp = chunk.getComponent(index, MovementStatesComponent.getComponentType());
+            MovementManager movement = chunk.getComponent(index, MovementManager.getComponentType());
+            if (tag == null || statesComp == null || movement == null)
+                return;
+
+            int posture = 0;
+            MovementStates states = statesComp.getMovementStates();
+            if (states != null) {
+                if (states.mounting)
+                    posture |= FlightRingTag.POSTURE_MOUNTED;
+                if (states.sitting)
+                    posture |= FlightRingTag.POSTURE_SITTING;
+                if (states.sleeping)
+                    posture |= FlightRingTag.POSTURE_SLEEPING;
+            }
+
+            boolean transitioned = posture != tag.getLastPosture();
+            if (transitioned) {
+                tag.setLastPosture(posture);
+            }
+
+            MovementSettings settings = movement.getSettings();
+            boolean lost = settings != null && !settings.canFly;
+            if (!lost && !transitioned)
+                return;
+
+            if (!ModConfig.runtime().flyRing)
+                return;
+
+            Player player = chunk.getComponent(index, Player.getComponentType());
+            if (player != null) {
+                flyHandler.resyncFlight(player);
+            }
+        } catch (Exception e) {
+            // Suppress errors during tick to avoid console spam
+        }
+    }
+}
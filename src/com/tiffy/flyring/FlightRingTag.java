@@ -0,0 +1,80 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * FlightRingTag - Marker component for players whose flight is granted by a ring.
+ *
+ * Only tagged players are matched by FlightMaintenanceSystem. Also remembers the
+ * last seen posture (mounted / sitting / sleeping) to detect transitions.
+ */
+public class FlightRingTag implements Component<EntityStore> {
+
+    public static final int POSTURE_MOUNTED = 1;
+    public static final int POSTURE_SITTING = 1 << 1;
+    public static final int POSTURE_SLEEPING = 1 << 2;
+
+    private int lastPosture;
+
+    public int getLastPosture() {
+        return lastPosture;
+    }
+
+    public void setLastPosture(int lastPosture) {
+        this.lastPosture = lastPosture;
+    }
+
+    @Override
+    public FlightRingTag clone() {
+        FlightRingTag copy = new FlightRingTag();
+        copy.lastPosture = this.lastPosture;
+        return copy;
+    }
+
+    /**
+     * Adds or removes the tag so it matches the player's flight ring state.
+     * Structural change, so it is applied on the world thread.
+     */
+    public static void apply(Player player, boolean tagged) {
+        if (player == null || type == null)
+            return;
+        Ref<EntityStore> ref = player.getReference();
+        if (ref == null || !ref.isValid())
+            return;
+
+        Store<EntityStore> store = ref.getStore();
+        if ((store.getComponent(ref, type) != null) == tagged)
+            return;
+
+        World world = ((EntityStore) store.getExternalData()).getWorld();
+        if (world == null)
+            return;
+        world.execute(() -> {
+            if (!ref.isValid())
+                return;
+            boolean has = store.getComponent(ref, type) != null;
+            if (tagged && !has) {
+                store.putComponent(ref, type, new FlightRingTag());
+            } else if (!tagged && has) {
+                store.tryRemoveComponent(ref, type);
+            }
+        });
+    }
+
+    // Static helper to get component type (registered in IllegalRings)
+    private static ComponentType<EntityStore, FlightRingTag> type;
+
+    public static void setComponentType(ComponentType<EntityStore, FlightRingTag> type) {
+        FlightRingTag.type = type;
+    }
+
+    public static ComponentType<EntityStore, FlightRingTag> getComponentType() {
+        return type;
+    }
+}
@@ -10,21 +10,17 @@ import com.hypixel.hytale.protocol.SavedMovementStates;
 import com.hypixel.hytale.protocol.packets.player.SetMovementStates;
 import com.hypixel.hytale.server.core.entity.movement.MovementStatesComponent;
 import com.hypixel.hytale.server.core.modules.physics.component.Velocity;
-import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import java.util.UUID;
 import java.util.Set;
 import java.util.Map;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * FlyRing - Handler for the Fly Ring (Creative flight).
@@ -39,37 +35,24 @@ public class FlyRing {
     private final Set<UUID> falldamageImmunePlayers = ConcurrentHashMap.newKeySet();
     private final Set<UUID> gaiaPlayers = ConcurrentHashMap.newKeySet();
 
-    private final Map<UUID, Player> onlinePlayers = new ConcurrentHashMap<>();
     private final Map<UUID, Boolean> lastFlyState = new ConcurrentHashMap<>();
-    private ScheduledExecutorService scheduler;
+
+    // Copy of the last movement settings sent per player (packet diffing)
+    private final Map<UUID, MovementSettings> lastSentMovement = new ConcurrentHashMap<>();
+    private static final AtomicLong movementPacketsSent = new AtomicLong();
+    private static final AtomicLong movementPacketsSuppressed = new AtomicLong();
 
     public FlyRing(JavaPlugin plugin) {
         this.plugin = plugin;
 
-        // Heartbeat - jede Sekunde Flight sync (Fix für sitting/sleeping reset)
-        scheduler = Executors.newScheduledThreadPool(1);
-        scheduler.scheduleAtFixedRate(this::refreshFlightIfNeeded, 0, 1000, TimeUnit.MILLISECONDS);
-
+        // Flight upkeep (sitting/sleeping/mount reset) is handled by FlightMaintenanceSystem
         Log.setup(plugin, "FlyRing handler initialized!");
     }
 
     public void shutdown() {
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
-        }
         falldamageImmunePlayers.clear();
     }
 
-    public void onPlayerConnect(com.hypixel.hytale.server.core.event.events.player.PlayerConnectEvent event) {
-        Player player = (Player) event.getHolder().getComponent(Player.getComponentType());
-        if (player != null) {
-            UUID uuid = event.getPlayerRef().getUuid();
-            if (uuid != null) {
-                onlinePlayers.put(uuid, player);
-            }
-        }
-    }
-
     public void onPlayerReady(com.hypixel.hytale.server.core.event.events.player.PlayerReadyEvent event) {
         Player player = event.getPlayer();
         if (player != null) {
@@ -99,19 +82,15 @@ public class FlyRing {
 
     public void onPlayerDisconnect(com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent event) {
         UUID uuid = event.getPlayerRef().getUuid();
-        onlinePlayers.remove(uuid);
         trackedFlightPlayers.remove(uuid);
         falldamageImmunePlayers.remove(uuid);
         gaiaPlayers.remove(uuid);
         lastFlyState.remove(uuid);
+        lastSentMovement.remove(uuid);
     }
 
     public void onInventoryChange(LivingEntityInventoryChangeEvent event, RingUtils.RingSnapshot snapshot) {
         if (event.getEntity() instanceof Player player) {
-            UUID uuid = RingUtils.getUUID(player);
-            if (uuid != null) {
-                onlinePlayers.put(uuid, player);
-            }
             updateStatus(player, snapshot);
         }
     }
@@ -127,17 +106,16 @@ public class FlyRing {
         }
 
         boolean hasFlightRing = snapshot.hasFly || snapshot.hasGaia;
-        if (hasFlightRing) {
-            ModConfig.Config mcfg = ModConfig.getInstance();
-            if (mcfg != null && mcfg.enabled != null && !mcfg.enabled.flyRing) {
-                hasFlightRing = false;
-            }
+        if (hasFlightRing && !ModConfig.runtime().flyRing) {
+            hasFlightRing = false;
         }
         if (hasFlightRing) {
             falldamageImmunePlayers.add(uuid);
         } else {
             falldamageImmunePlayers.remove(uuid);
         }
+        RingStateComponent.update(player, RingStateComponent.FLY, hasFlightRing);
+        FlightRingTag.apply(player, hasFlightRing);
 
         // Track Gaia separately for analytics duration tracking
         if (snapshot.hasGaia) {
@@ -149,46 +127,6 @@ public class FlyRing {
         setForceFlightState(player, hasFlightRing);
     }
 
-    /**
-     * Sanfter Heartbeat - Refreshes flight if a player has the ring but lost flight
-     * state
-     * (e.g., after dismounting from a mount that removed the flying state) or after
-     * sitting/sleeping.
-     */
-    private void refreshFlightIfNeeded() {
-        List<Player> playersSnapshot = new ArrayList<>(onlinePlayers.values());
-        if (playersSnapshot.isEmpty())
-            return;
-
-        for (Player player : playersSnapshot) {
-            try {
-                if (player == null || player.wasRemoved()) {
-                    continue;
-                }
-
-                World world = player.getWorld();
-                if (world == null || !world.isAlive())
-                    continue;
-
-                world.execute(() -> {
-                    try {
-                        RingUtils.RingSnapshot snapshot = RingUtils.getRingSnapshot(player);
-                        if (snapshot.hasFly || snapshot.hasGaia) {
-                            ModConfig.Config mcfg = ModConfig.getInstance();
-                            if (mcfg == null || mcfg.enabled == null || mcfg.enabled.flyRing) {
-                                setForceFlightState(player, true);
-                            }
-                        }
-                    } catch (Exception inner) {
-                        // Skip
-                    }
-                });
-            } catch (Exception e) {
-                // Skip
-            }
-        }
-    }
-
     public Set<UUID> getFalldamageImmunePlayers() {
         return falldamageImmunePlayers;
     }
@@ -198,21 +136,44 @@ public class FlyRing {
     }
 
     /**
-     * Force set flight state for a player
+     * Force set flight state for a player. Movement settings are only sent when
+     * they differ from what this player was last sent.
      *
      * @param player  Target player
      * @param enabled True to enable flight, false to disable and ground the player
      */
     public void setForceFlightState(Player player, boolean enabled) {
+        setForceFlightState(player, enabled, false);
+    }
+
+    /**
+     * Re-send flight settings even if nothing changed server-side (client lost
+     * flight after mount/sit/sleep, or canFly was reset).
+     */
+    public void resyncFlight(Player player) {
+        setForceFlightState(player, true, true);
+    }
+
+    public static long getMovementPacketsSent() {
+        return movementPacketsSent.get();
+    }
+
+    public static long getMovementPacketsSuppressed() {
+        return movementPacketsSuppressed.get();
+    }
+
+    private void setForceFlightState(Player player, boolean enabled, boolean forceResync) {
         if (player == null)
             return;
 
         UUID uuid = RingUtils.getUUID(player);
+        if (uuid == null)
+            return;
 
         try {
             Ref<EntityStore> refRef = player.getReference();
-            PlayerRef ref = refRef.getStore().getComponent(refRef, PlayerRef.getComponentType());
-            MovementManager movement = refRef.getStore().getComponent(refRef, MovementManager.getComponentType());
+            Store<EntityStore> store = refRef.getStore();
+            MovementManager movement = store.getComponent(refRef, MovementManager.getComponentType());
             if (movement == null)
                 return;
 
@@ -231,10 +192,22 @@ public class FlyRing {
                 return;
 
             if (enabled) {
-                // Enable flight - IMMER update senden, Client könnte out of sync sein
                 settings.canFly = true;
-                movement.update(player.getReference().getStore()
-                        .getComponent(player.getReference(), PlayerRef.getComponentType()).getPacketHandler());
+
+                // Only send if the client hasn't already got exactly these settings
+                // (full equals() on a copy: any speed/jump change made elsewhere still goes out;
+                // without a value equals() the copy never matches and every update is sent)
+                MovementSettings lastSent = lastSentMovement.get(uuid);
+                if (forceResync || lastSent == null || !lastSent.equals(settings)) {
+                    PlayerRef playerRef = store.getComponent(refRef, PlayerRef.getComponentType());
+                    if (playerRef == null)
+                        return;
+                    movement.update(playerRef.getPacketHandler());
+                    lastSentMovement.put(uuid, settings.clone());
+                    movementPacketsSent.incrementAndGet();
+                } else {
+                    movementPacketsSuppressed.incrementAndGet();
+                }
 
                 // Nur Message wenn neu aktiviert
                 if (!trackedFlightPlayers.contains(uuid)) {
@@ -245,6 +218,10 @@ public class FlyRing {
             } else {
                 // Disable flight - force grounded
                 if (trackedFlightPlayers.contains(uuid)) {
+                    PlayerRef playerRef = store.getComponent(refRef, PlayerRef.getComponentType());
+                    if (playerRef == null)
+                        return;
+
                     // 1. Apply default movement settings (resets to original state)
                     movement.applyDefaultSettings();
 
@@ -255,22 +232,21 @@ public class FlyRing {
                     }
 
                     // 3. Send UPDATED movement capability to client
-                    movement.update(player.getReference().getStore()
-                            .getComponent(player.getReference(), PlayerRef.getComponentType()).getPacketHandler());
+                    movement.update(playerRef.getPacketHandler());
+                    lastSentMovement.remove(uuid);
+                    movementPacketsSent.incrementAndGet();
 
                     // 4. Send SetMovementStates packet directly (critical for client sync)
                     try {
-                        player.getReference().getStore()
-                                .getComponent(player.getReference(), PlayerRef.getComponentType()).getPacketHandler()
-                                .write(new SetMovementStates(new SavedMovementStates(false)));
+                        playerRef.getPacketHandler().write(new SetMovementStates(new SavedMovementStates(false)));
                     } catch (Exception ex) {
                         // Ignore packet write errors
                     }
 
                     // 5. Reset movement states - player should be grounded
                     try {
-                        MovementStatesComponent statesComp = player.getReference().getStore()
-                                .getComponent(player.getReference(), MovementStatesComponent.getComponentType());
+                        MovementStatesComponent statesComp = store.getComponent(refRef,
+                                MovementStatesComponent.getComponentType());
                         if (statesComp != null) {
                             MovementStates states = statesComp.getMovementStates();
                             if (states != null) {
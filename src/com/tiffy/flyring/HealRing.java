@@ -15,7 +15,7 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * HealRing - Handler for the Heal Ring.
  * Detects if a player is wearing the ring.
- * Reactive healing is performed by RingDamageSystem.
+ * Reactive healing is performed by RingAttackerSystem.
  */
 public class HealRing {
 
@@ -62,10 +62,10 @@ public class HealRing {
 
         if (hasHealRing && !wasWearing) {
             // Check if HealRing is disabled
-            if (ModConfig.getInstance() != null && ModConfig.getInstance().enabled != null
-                    && !ModConfig.getInstance().enabled.healRing) {
+            if (!ModConfig.runtime().healRing) {
                 player.sendMessage(com.hypixel.hytale.server.core.Message
                         .raw("[HealRing] DISABLED by server").color(Color.RED));
+                RingStateComponent.update(player, RingStateComponent.HEAL, false);
                 return;
             }
 
@@ -73,16 +73,18 @@ public class HealRing {
             AnalyticsClient.reportRingState("HEAL_RING", true);
             player.sendMessage(com.hypixel.hytale.server.core.Message
                     .raw("[HealRing] You feel a surge of life-force! Lifesteal enabled.").color(Color.ORANGE));
-            Log.info(plugin, "[HealRing] " + RingUtils.getUsername(player) + " equipped heal ring");
+            Log.info(Log.Category.RINGS, () -> "[HealRing] " + RingUtils.getUsername(player) + " equipped heal ring");
         } else if (!hasHealRing && wasWearing) {
             healRingPlayers.remove(uuid);
             AnalyticsClient.reportRingState("HEAL_RING", false);
             player.sendMessage(com.hypixel.hytale.server.core.Message
                     .raw("[HealRing] The thirst for blood fades... lifesteal disabled.").color(Color.ORANGE)
                     .color(Color.RED));
-            Log.info(plugin, "[HealRing] " + RingUtils.getUsername(player) + " removed heal ring");
+            Log.info(Log.Category.RINGS, () -> "[HealRing] " + RingUtils.getUsername(player) + " removed heal ring");
         }
 
+        RingStateComponent.update(player, RingStateComponent.HEAL, healRingPlayers.contains(uuid));
+
     }
 
     public Set<UUID> getHealRingPlayers() {
@@ -447,6 +447,15 @@ public class IRConfigPage extends InteractiveCustomUIPage<IRConfigPage.ConfigEve
                 case "freepet_en" -> cfg.noFreePet = !cfg.noFreePet;
             }
         }
+
+        // Hot paths read the compiled snapshot - republish once the edits settle
+        // (slider drags fire many events; close/dismiss save publishes immediately)
+        IllegalRings ir = IllegalRings.getInstance();
+        if (ir != null) {
+            ir.schedulePublishRuntime();
+        } else {
+            ModConfig.publishRuntime();
+        }
     }
 
     private void addLootEntry() {
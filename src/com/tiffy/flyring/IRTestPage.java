@@ -120,6 +120,7 @@ public class IRTestPage extends InteractiveCustomUIPage<IRTestPage.TestEventData
                     System.out.println("[IRTest] gaiaMedallion = " + cfg.enabled.gaiaMedallion);
                 }
             }
+            ModConfig.publishRuntime();
             UICommandBuilder cmd = new UICommandBuilder();
             cmd.set("#TestStatus.Text", data.action + " toggled");
             sendUpdate(cmd, false);
@@ -7,6 +7,8 @@ import com.hypixel.hytale.server.core.event.events.player.PlayerConnectEvent;
 import com.hypixel.hytale.server.core.event.events.player.PlayerReadyEvent;
 import com.hypixel.hytale.server.core.event.events.player.PlayerMouseButtonEvent;
 import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
+import com.hypixel.hytale.server.core.event.events.player.AddPlayerToWorldEvent;
+import com.hypixel.hytale.server.core.entity.UUIDComponent;
 import com.hypixel.hytale.server.core.event.events.entity.EntityRemoveEvent;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.entity.Entity;
@@ -19,6 +21,7 @@ import java.io.File;
 import java.util.UUID;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -29,6 +32,8 @@ import com.hypixel.hytale.component.ComponentType;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.RemoveReason;
 import com.hypixel.hytale.server.core.asset.type.entityeffect.config.EntityEffect;
+import com.hypixel.hytale.assetstore.event.LoadedAssetsEvent;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageCause;
 import com.hypixel.hytale.server.core.entity.effect.EffectControllerComponent;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.npc.NPCPlugin;
@@ -50,6 +55,7 @@ public class IllegalRings extends JavaPlugin {
     private RingLootSystem lootSystem;
     private PedestalFilter pedestalFilter;
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private ScheduledFuture<?> pendingRuntimePublish;
     private final AtomicBoolean recipesFinalized = new AtomicBoolean(false);
     private final AtomicBoolean bootSuccessReported = new AtomicBoolean(false);
     private final AtomicBoolean stableReported = new AtomicBoolean(false);
@@ -66,6 +72,9 @@ public class IllegalRings extends JavaPlugin {
     private VisPetStorage visPetStorage;
     private VisPetToggleSystem visPetToggleSystem;
 
+    // World each ring holder is registered in (RingHolderResource)
+    private final ConcurrentHashMap<UUID, World> ringHolderWorlds = new ConcurrentHashMap<>();
+
     // FreePet state
     private FreePetStorage freePetStorage;
     private final ConcurrentHashMap<UUID, Long> freePetSpawnTimes = new ConcurrentHashMap<>();
@@ -77,6 +86,7 @@ public class IllegalRings extends JavaPlugin {
     @Override
     protected void setup() {
         instance = this;
+        Log.init(this);
 
         // Initialize analytics early (defaults to production endpoint)
         AnalyticsClient.init(false);
@@ -111,6 +121,29 @@ public class IllegalRings extends JavaPlugin {
         // Initialize PedestalRegistry for persistence
         PedestalRegistry.init();
 
+        // Damage cause categories (rebuilt again whenever DamageCause assets load)
+        DamageCauseTable.rebuild();
+
+        // Per-entity ring bitmask (read by damage/peaceful/attitude paths)
+        RingStateComponent.setComponentType(
+                getEntityStoreRegistry().registerComponent(RingStateComponent.class, RingStateComponent::new));
+        RingHolderResource.setResourceType(
+                getEntityStoreRegistry().registerResource(RingHolderResource.class, RingHolderResource::new));
+        LifestealResource.setResourceType(
+                getEntityStoreRegistry().registerResource(LifestealResource.class, LifestealResource::new));
+        PeacefulWorldState.setResourceType(
+                getEntityStoreRegistry().registerResource(PeacefulWorldState.class, PeacefulWorldState::new));
+        PeacefulAttitudeResource.setResourceType(
+                getEntityStoreRegistry().registerResource(PeacefulAttitudeResource.class, PeacefulAttitudeResource::new));
+        NightVisionResource.setResourceType(
+                getEntityStoreRegistry().registerResource(NightVisionResource.class, NightVisionResource::new));
+        LootQueueResource.setResourceType(
+                getEntityStoreRegistry().registerResource(LootQueueResource.class, LootQueueResource::new));
+        PedestalDisplayResource.setResourceType(
+                getEntityStoreRegistry().registerResource(PedestalDisplayResource.class, PedestalDisplayResource::new));
+        FlightRingTag.setComponentType(
+                getEntityStoreRegistry().registerComponent(FlightRingTag.class, FlightRingTag::new));
+
         flyRingHandler = new FlyRing(this);
         fireRingHandler = new FireRing(this);
         waterRingHandler = new WaterRing(this);
@@ -137,19 +170,33 @@ public class IllegalRings extends JavaPlugin {
         getEventRegistry().registerGlobal(PlayerMouseButtonEvent.class, this::onPlayerMouseButton);
         getEventRegistry().registerGlobal(PlayerDisconnectEvent.class, this::onPlayerDisconnect);
         getEventRegistry().registerGlobal(EntityRemoveEvent.class, this::onEntityRemove);
+        getEventRegistry().registerGlobal(AddPlayerToWorldEvent.class, this::onAddPlayerToWorld);
+        getEventRegistry().register(LoadedAssetsEvent.class, DamageCause.class, this::onDamageCauseAssetsLoaded);
+
+        // Damage pipeline: one archetype-narrowed system per stage
+        // (ordered by getDependencies: attacker effects after immunities, kill detection after both)
+        getEntityStoreRegistry().registerSystem(new RingImmunitySystem(this));
+        getEntityStoreRegistry().registerSystem(new RingAttackerSystem(this));
+        getEntityStoreRegistry().registerSystem(new LifestealSystem(this));
 
-        // Register the central RingDamageSystem for all elemental ring immunities
-        // Also connect it to loot system for NPC death detection
-        RingDamageSystem damageSystem = new RingDamageSystem(this, flyRingHandler, fireRingHandler, waterRingHandler,
-                healRingHandler, peacefulRingHandler);
-        damageSystem.setLootSystem(lootSystem);
-        getEntityStoreRegistry().registerSystem(damageSystem);
+        // Post-damage kill detection; loot consumers subscribe to its kill records
+        NpcKillSystem killSystem = new NpcKillSystem(this);
+        killSystem.addListener(lootSystem::onKill);
+        killSystem.addListener(PetpieceLoot::onKill);
+        getEntityStoreRegistry().registerSystem(killSystem);
 
         // Register PeacefulTargetClearSystem
-        getEntityStoreRegistry().registerSystem(new PeacefulTargetClearSystem(peacefulRingHandler));
+        getEntityStoreRegistry().registerSystem(new PeacefulTargetClearSystem());
+        getEntityStoreRegistry().registerSystem(new PeacefulTargetClearSystem.Clock());
 
         // Register PeacefulAttitudeSystem (Ensures NPCs ignore the player fully)
-        getEntityStoreRegistry().registerSystem(new PeacefulAttitudeSystem(peacefulRingHandler));
+        getEntityStoreRegistry().registerSystem(new PeacefulAttitudeSystem());
+
+        // Register FlightMaintenanceSystem (keeps ring flight alive for tagged players)
+        getEntityStoreRegistry().registerSystem(new FlightMaintenanceSystem(flyRingHandler));
+
+        // Register RingRefreshSystem (drains coalesced ring status refreshes once per tick)
+        getEntityStoreRegistry().registerSystem(new RingRefreshSystem(this));
 
         // Register LootDropTickSystem (processes queued item drops on WorldThread)
         getEntityStoreRegistry().registerSystem(new LootDropTickSystem(this));
@@ -199,15 +246,11 @@ public class IllegalRings extends JavaPlugin {
         if (event.getEntity() instanceof Player player) {
             pedestalFilter.onInventoryChange(event, player);
 
-            RingUtils.RingSnapshot snapshot = RingUtils.getRingSnapshot(player);
-
-            flyRingHandler.updateStatus(player, snapshot);
-            fireRingHandler.updateStatus(player, snapshot);
-            waterRingHandler.updateStatus(player, snapshot);
-            healRingHandler.updateStatus(player, snapshot);
-            peacefulRingHandler.updateStatus(player, snapshot);
+            // Delta update: only the container that fired the event is rescanned
+            RingInventoryCache.onContainerChanged(player, event.getItemContainer());
 
-            RingUtils.checkNightVision(player, snapshot);
+            // Handlers run once per tick (RingRefreshSystem), however many events fired
+            RingRefreshSystem.markDirty(RingUtils.getUUID(player));
         }
     }
 
@@ -221,12 +264,53 @@ public class IllegalRings extends JavaPlugin {
         }
     }
 
+    /**
+     * Moves the player's ring holder entry from the previous world's
+     * RingHolderResource to the new world's. Each side runs on its own world thread.
+     */
+    private void onAddPlayerToWorld(AddPlayerToWorldEvent event) {
+        try {
+            World world = event.getWorld();
+            if (world == null || event.getHolder() == null)
+                return;
+            UUIDComponent uuidComp = event.getHolder().getComponent(UUIDComponent.getComponentType());
+            if (uuidComp == null)
+                return;
+            UUID uuid = uuidComp.getUuid();
+            RingStateComponent state = event.getHolder().getComponent(RingStateComponent.getComponentType());
+            int mask = (state != null) ? state.getMask() : 0;
+
+            World previous = ringHolderWorlds.put(uuid, world);
+            if (previous != null && previous != world) {
+                previous.execute(() -> previous.getEntityStore().getStore()
+                        .getResource(RingHolderResource.getResourceType()).remove(uuid));
+            }
+            world.execute(() -> world.getEntityStore().getStore()
+                    .getResource(RingHolderResource.getResourceType()).set(uuid, mask));
+        } catch (Exception e) {
+            Log.severe(this, "[ERR-1024] onAddPlayerToWorld: " + e.getMessage());
+        }
+    }
+
+    /**
+     * DamageCause assets (re)loaded - rebuild the immunity category table.
+     */
+    private void onDamageCauseAssetsLoaded(LoadedAssetsEvent<String, DamageCause, ?> event) {
+        DamageCauseTable.rebuild();
+    }
+
     private void onPlayerConnect(PlayerConnectEvent event) {
         if (event.getHolder() != null
                 && event.getHolder().getComponent(Player.getComponentType()) instanceof Player player) {
+            // Attach the ring state component before the player enters the world
+            if (event.getHolder().getComponent(RingStateComponent.getComponentType()) == null) {
+                event.getHolder().putComponent(RingStateComponent.getComponentType(), new RingStateComponent());
+            }
+
+            // Full reconcile of the cached ring masks on connect
+            RingInventoryCache.reconcile(player, event.getPlayerRef().getUuid());
             RingUtils.RingSnapshot snapshot = RingUtils.getRingSnapshot(player);
 
-            flyRingHandler.onPlayerConnect(event);
             fireRingHandler.updateStatus(player, snapshot);
             waterRingHandler.updateStatus(player, snapshot);
             healRingHandler.updateStatus(player, snapshot);
@@ -249,6 +333,9 @@ public class IllegalRings extends JavaPlugin {
         } catch (Exception e) {
             Log.severe(this, "[FlyRing] onPlayerReady failed: " + e.getMessage());
         }
+
+        // Player is in the world now - full ring refresh (grants flight + FlightRingTag)
+        RingRefreshSystem.markDirty(RingUtils.getUUID(event.getPlayer()));
         // Trigger global recipe sync once a player is READY (in Playing state)
         if (recipesFinalized.compareAndSet(false, true)) {
             Log.setup(this, "[IllegalRings] Player ready! Triggering global recipe sync.");
@@ -363,9 +450,17 @@ public class IllegalRings extends JavaPlugin {
         healRingHandler.onPlayerDisconnect(event);
         peacefulRingHandler.onPlayerDisconnect(event);
 
-        // Cleanup Night Vision
+        // Cleanup cached ring masks (night vision state lives on the entity)
         if (event.getPlayerRef() != null) {
-            RingUtils.cleanupNightVision(event.getPlayerRef().getUuid());
+            RingInventoryCache.forget(event.getPlayerRef().getUuid());
+            RingRefreshSystem.forget(event.getPlayerRef().getUuid());
+
+            UUID holderUuid = event.getPlayerRef().getUuid();
+            World holderWorld = ringHolderWorlds.remove(holderUuid);
+            if (holderWorld != null) {
+                holderWorld.execute(() -> holderWorld.getEntityStore().getStore()
+                        .getResource(RingHolderResource.getResourceType()).remove(holderUuid));
+            }
         }
     }
 
@@ -408,7 +503,7 @@ public class IllegalRings extends JavaPlugin {
     }
 
     private void onEntityRemove(EntityRemoveEvent event) {
-        // Note: Loot drops are now handled via RingDamageSystem.checkNpcDeath()
+        // Note: Loot drops are now handled via NpcKillSystem
         // which detects NPC death when damage reduces HP to 0.
         // EntityRemoveEvent fires too late (entity already being removed).
     }
@@ -422,6 +517,17 @@ public class IllegalRings extends JavaPlugin {
         scheduler.schedule(() -> applyRecipeOverrides(true), 500, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Debounced ModConfig.publishRuntime() for config UI edits: republishes once no
+     * further edit arrived for 250 ms, so a slider drag recompiles the loot table once.
+     */
+    public synchronized void schedulePublishRuntime() {
+        if (pendingRuntimePublish != null) {
+            pendingRuntimePublish.cancel(false);
+        }
+        pendingRuntimePublish = scheduler.schedule(ModConfig::publishRuntime, 250, TimeUnit.MILLISECONDS);
+    }
+
     private boolean applyRecipeOverrides(boolean broadcast) {
         ModConfig.Config cfg = ModConfig.getInstance();
         if (cfg != null) {
@@ -489,6 +595,9 @@ public class IllegalRings extends JavaPlugin {
         PedestalRegistry.shutdown();
 
         Log.setup(this, "IllegalRings Mod shut down.");
+
+        // Flush buffered log lines and stop the writer thread (last - nothing logs after this)
+        Log.shutdown();
     }
 
     private static class BackpackToggleCommand extends com.hypixel.hytale.server.core.command.system.AbstractCommand {
@@ -510,14 +619,11 @@ public class IllegalRings extends JavaPlugin {
                 context.sendMessage(com.hypixel.hytale.server.core.Message
                         .raw("&6[FlyRing]&f Backpack ring detection: " + state));
 
-                // Refresh flight status
+                // Refresh ring status (coalesced to next tick)
                 com.hypixel.hytale.server.core.universe.PlayerRef playerRef = com.hypixel.hytale.server.core.universe.Universe
                         .get().getPlayer(uuid);
                 if (playerRef != null) {
-                    Player player = playerRef.getComponent(Player.getComponentType());
-                    if (player != null) {
-                        flyRingHandler.updateStatus(player, RingUtils.getRingSnapshot(player));
-                    }
+                    RingRefreshSystem.markDirty(uuid);
                 }
             } catch (Exception e) {
                 context.sendMessage(com.hypixel.hytale.server.core.Message
@@ -536,21 +642,20 @@ public class IllegalRings extends JavaPlugin {
 
     /**
      * Refresh ring status for a player by UUID (used by PedestalFilter for
-     * real-time updates).
+     * real-time updates). Coalesced: applied on the player's next world tick.
      */
     public void refreshRingStatusForPlayer(UUID playerUuid) {
-        if (playerUuid == null)
+        RingRefreshSystem.markDirty(playerUuid);
+    }
+
+    /**
+     * One snapshot + fan-out to all ring handlers. Called by RingRefreshSystem
+     * on the player's world thread.
+     */
+    void applyRingStatus(Player player) {
+        if (player == null)
             return;
         try {
-            com.hypixel.hytale.server.core.universe.PlayerRef playerRef = com.hypixel.hytale.server.core.universe.Universe
-                    .get().getPlayer(playerUuid);
-            if (playerRef == null)
-                return;
-
-            Player player = playerRef.getComponent(Player.getComponentType());
-            if (player == null)
-                return;
-
             RingUtils.RingSnapshot snapshot = RingUtils.getRingSnapshot(player);
 
             flyRingHandler.updateStatus(player, snapshot);
@@ -561,12 +666,9 @@ public class IllegalRings extends JavaPlugin {
 
             RingUtils.checkNightVision(player, snapshot);
 
-            boolean debug = ModConfig.getInstance() != null && ModConfig.getInstance().debugLogging;
-            if (debug) {
-                Log.info(this, "[Pedestal] Refreshed ring status for " + player.getDisplayName());
-            }
+            Log.debug(Log.Category.RINGS, () -> "[Rings] Refreshed ring status for " + player.getDisplayName());
         } catch (Exception e) {
-            Log.severe(this, "[ERR-1006] refreshRingStatusForPlayer: " + e.getMessage());
+            Log.severe(this, "[ERR-1006] applyRingStatus: " + e.getMessage());
         }
     }
 
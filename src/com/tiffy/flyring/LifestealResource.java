@@ -0,0 +1,63 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import it.unimi.dsi.fastutil.ints.Int2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+
+/**
+ * LifestealResource - Per-world pending lifesteal, keyed by attacker ref index.
+ *
+ * RingAttackerSystem adds each hit's heal here during the damage phase;
+ * LifestealSystem applies the sum once per attacker per tick and clears it.
+ * Only touched by the owning world's thread.
+ */
+public class LifestealResource implements Resource<EntityStore> {
+
+    private final Int2FloatOpenHashMap pendingHeal = new Int2FloatOpenHashMap();
+    private final Int2ObjectOpenHashMap<Ref<EntityStore>> attackers = new Int2ObjectOpenHashMap<>();
+
+    public void add(Ref<EntityStore> attackerRef, float heal) {
+        int index = attackerRef.getIndex();
+        pendingHeal.addTo(index, heal);
+        attackers.putIfAbsent(index, attackerRef);
+    }
+
+    public boolean isEmpty() {
+        return pendingHeal.isEmpty();
+    }
+
+    Int2FloatOpenHashMap getPendingHeal() {
+        return pendingHeal;
+    }
+
+    Ref<EntityStore> getAttacker(int index) {
+        return attackers.get(index);
+    }
+
+    void clear() {
+        pendingHeal.clear();
+        attackers.clear();
+    }
+
+    @Override
+    public LifestealResource clone() {
+        LifestealResource copy = new LifestealResource();
+        copy.pendingHeal.putAll(this.pendingHeal);
+        copy.attackers.putAll(this.attackers);
+        return copy;
+    }
+
+    // Static helper to get resource type (registered in IllegalRings)
+    private static ResourceType<EntityStore, LifestealResource> type;
+
+    public static void setResourceType(ResourceType<EntityStore, LifestealResource> type) {
+        LifestealResource.type = type;
+    }
+
+    public static ResourceType<EntityStore, LifestealResource> getResourceType() {
+        return type;
+    }
+}
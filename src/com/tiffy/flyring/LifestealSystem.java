@@ -0,0 +1,58 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatValue;
+import com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import it.unimi.dsi.fastutil.ints.Int2FloatMap;
+
+import javax.annotation.Nonnull;
+
+/**
+ * LifestealSystem - Applies the world's accumulated BloodSuck healing once per
+ * attacker per tick (one stat write each, capped at max health).
+ */
+public class LifestealSystem extends TickingSystem<EntityStore> {
+
+    private final IllegalRings plugin;
+
+    public LifestealSystem(IllegalRings plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void tick(float delta, int systemIndex, @Nonnull Store<EntityStore> store) {
+        LifestealResource pending = store.getResource(LifestealResource.getResourceType());
+        if (pending == null || pending.isEmpty())
+            return;
+
+        try {
+            for (Int2FloatMap.Entry entry : pending.getPendingHeal().int2FloatEntrySet()) {
+                Ref<EntityStore> attackerRef = pending.getAttacker(entry.getIntKey());
+                if (attackerRef == null || !attackerRef.isValid())
+                    continue;
+
+                EntityStatMap attackerStats = store.getComponent(attackerRef, EntityStatMap.getComponentType());
+                if (attackerStats == null)
+                    continue;
+
+                EntityStatValue healthStat = attackerStats.get(DefaultEntityStatTypes.getHealth());
+                if (healthStat == null)
+                    continue;
+
+                float current = healthStat.get();
+                float newHealth = Math.min(healthStat.getMax(), current + entry.getFloatValue());
+                if (newHealth > current) {
+                    attackerStats.setStatValue(DefaultEntityStatTypes.getHealth(), newHealth);
+                }
+            }
+        } catch (Exception e) {
+            Log.info(plugin, "[BloodSuck] Apply error: " + e.getMessage());
+        } finally {
+            pending.clear();
+        }
+    }
+}
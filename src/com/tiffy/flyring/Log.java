@@ -2,18 +2,176 @@ package com.tiffy.flyring;
 
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
 /**
- * Log - Helper class for conditional logging based on config.
+ * Log - Category-based logging facade.
+ *
+ * Each Category has a level threshold (from config: logLevels, DEBUG when
+ * debugLogging is on) and a token bucket that caps how many lines per second
+ * it may emit. Messages are handed to a bounded ring buffer and written by a
+ * daemon thread, so the world thread never blocks on the console.
+ *
+ * Disabled categories cost one array read: use the Supplier overloads or guard
+ * with isEnabled() so no message string is built.
  */
 public class Log {
 
+    public enum Level {
+        DEBUG, INFO, WARN, SEVERE, OFF
+    }
+
+    public enum Category {
+        GENERAL(50), DAMAGE(5), LIFESTEAL(5), LOOT(10), RINGS(10);
+
+        /** Sustained lines per second (bucket refill rate and burst size). */
+        final int perSecond;
+
+        Category(int perSecond) {
+            this.perSecond = perSecond;
+        }
+    }
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final int RING_SIZE = 1024;
+
+    // Per-category minimum level ordinal; written on config publish, read on every call
+    private static volatile int[] thresholds = defaultThresholds(false);
+
+    // Token buckets (guarded by the bucket index lock)
+    private static final Object[] bucketLocks = new Object[CATEGORIES.length];
+    private static final double[] tokens = new double[CATEGORIES.length];
+    private static final long[] lastRefillNanos = new long[CATEGORIES.length];
+    private static final long[] suppressed = new long[CATEGORIES.length];
+
+    // Async appender: preallocated ring of slots, single consumer thread
+    private static final String[] ringMessages = new String[RING_SIZE];
+    private static final byte[] ringLevels = new byte[RING_SIZE];
+    private static final Object ringLock = new Object();
+    private static int ringHead; // next slot to write
+    private static int ringSize;
+    private static final AtomicLong dropped = new AtomicLong();
+
+    private static volatile JavaPlugin owner;
+    private static volatile Thread writer;
+
+    static {
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            bucketLocks[i] = new Object();
+            tokens[i] = CATEGORIES[i].perSecond;
+        }
+    }
+
+    /**
+     * Binds the facade to the plugin logger and starts the writer thread.
+     * Before this is called, messages are written synchronously.
+     */
+    public static synchronized void init(JavaPlugin plugin) {
+        owner = plugin;
+        if (writer != null)
+            return;
+        writer = new Thread(Log::drainLoop, "IllegalRings-Log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops the writer thread and flushes whatever is still buffered, then
+     * releases the plugin. Called from IllegalRings.shutdown(); afterwards
+     * messages are written synchronously until init() is called again.
+     */
+    public static synchronized void shutdown() {
+        Thread thread;
+        synchronized (ringLock) {
+            thread = writer;
+            writer = null; // New messages bypass the ring from here on
+        }
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Whatever the writer did not get to
+        while (true) {
+            String message;
+            int level;
+            synchronized (ringLock) {
+                if (ringSize == 0)
+                    break;
+                int tail = (ringHead - ringSize + RING_SIZE) % RING_SIZE;
+                message = ringMessages[tail];
+                level = ringLevels[tail];
+                ringMessages[tail] = null;
+                ringSize--;
+            }
+            write(level, message);
+        }
+        owner = null;
+    }
+
+    /**
+     * Recomputes category thresholds from the config. Called from ModConfig.publishRuntime().
+     */
+    static void configure(ModConfig.Config cfg) {
+        int[] next = defaultThresholds(cfg != null && cfg.debugLogging);
+        Map<String, String> levels = (cfg != null) ? cfg.logLevels : null;
+        if (levels != null) {
+            for (Map.Entry<String, String> entry : levels.entrySet()) {
+                try {
+                    Category category = Category.valueOf(entry.getKey().trim().toUpperCase(Locale.ROOT));
+                    Level level = Level.valueOf(entry.getValue().trim().toUpperCase(Locale.ROOT));
+                    next[category.ordinal()] = level.ordinal();
+                } catch (Exception ignored) {
+                    // Unknown category or level name - keep the default
+                }
+            }
+        }
+        thresholds = next;
+    }
+
+    public static boolean isEnabled(Category category, Level level) {
+        return level.ordinal() >= thresholds[category.ordinal()];
+    }
+
+    public static void debug(Category category, Supplier<String> message) {
+        log(category, Level.DEBUG, message);
+    }
+
+    public static void info(Category category, Supplier<String> message) {
+        log(category, Level.INFO, message);
+    }
+
+    public static void warn(Category category, Supplier<String> message) {
+        log(category, Level.WARN, message);
+    }
+
+    public static void log(Category category, Level level, Supplier<String> message) {
+        if (!isEnabled(category, level) || !tryAcquire(category.ordinal()))
+            return;
+        enqueue(level, "[" + category + "] " + message.get());
+    }
+
+    public static void log(Category category, Level level, String message) {
+        if (!isEnabled(category, level) || !tryAcquire(category.ordinal()))
+            return;
+        enqueue(level, message);
+    }
+
     public static void info(JavaPlugin plugin, String message) {
-        // Force enabled for troubleshooting flight reset bug
-        plugin.getLogger().atInfo().log(message);
+        if (owner == null)
+            owner = plugin;
+        log(Category.GENERAL, Level.INFO, message);
     }
 
     public static void severe(JavaPlugin plugin, String message) {
-        // Severe errors are always logged for stability monitoring
+        // Severe errors are always logged for stability monitoring (no rate limit, synchronous)
         plugin.getLogger().atSevere().log(message);
     }
 
@@ -23,4 +181,103 @@ public class Log {
     public static void setup(JavaPlugin plugin, String message) {
         plugin.getLogger().atInfo().log(message);
     }
+
+    /**
+     * Number of messages lost because the ring buffer was full.
+     */
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private static boolean tryAcquire(int category) {
+        long suppressedNow;
+        synchronized (bucketLocks[category]) {
+            long now = System.nanoTime();
+            int rate = CATEGORIES[category].perSecond;
+            if (lastRefillNanos[category] != 0) {
+                tokens[category] = Math.min(rate,
+                        tokens[category] + (now - lastRefillNanos[category]) * rate / 1_000_000_000.0);
+            }
+            lastRefillNanos[category] = now;
+
+            if (tokens[category] < 1.0) {
+                suppressed[category]++;
+                return false;
+            }
+            tokens[category] -= 1.0;
+            suppressedNow = suppressed[category];
+            suppressed[category] = 0;
+        }
+        if (suppressedNow > 0) {
+            enqueue(Level.INFO, "[" + CATEGORIES[category] + "] " + suppressedNow + " messages suppressed (rate limit)");
+        }
+        return true;
+    }
+
+    private static void enqueue(Level level, String message) {
+        synchronized (ringLock) {
+            // Checked under the lock so shutdown() cannot strand a message in the ring
+            if (writer != null) {
+                if (ringSize == RING_SIZE) {
+                    dropped.incrementAndGet();
+                    return;
+                }
+                ringMessages[ringHead] = message;
+                ringLevels[ringHead] = (byte) level.ordinal();
+                ringHead = (ringHead + 1) % RING_SIZE;
+                ringSize++;
+                ringLock.notify();
+                return;
+            }
+        }
+        write(level.ordinal(), message);
+    }
+
+    private static void drainLoop() {
+        while (true) {
+            String message;
+            int level;
+            try {
+                synchronized (ringLock) {
+                    while (ringSize == 0) {
+                        ringLock.wait();
+                    }
+                    int tail = (ringHead - ringSize + RING_SIZE) % RING_SIZE;
+                    message = ringMessages[tail];
+                    level = ringLevels[tail];
+                    ringMessages[tail] = null;
+                    ringSize--;
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+            write(level, message);
+        }
+    }
+
+    private static void write(int level, String message) {
+        JavaPlugin plugin = owner;
+        if (plugin == null)
+            return;
+        try {
+            if (level >= Level.SEVERE.ordinal()) {
+                plugin.getLogger().atSevere().log(message);
+            } else if (level == Level.WARN.ordinal()) {
+                plugin.getLogger().atWarning().log(message);
+            } else {
+                plugin.getLogger().atInfo().log(message);
+            }
+        } catch (Exception ignored) {
+            // Logging must never take down the caller
+        }
+    }
+
+    private static int[] defaultThresholds(boolean debug) {
+        int[] result = new int[CATEGORIES.length];
+        int level = (debug ? Level.DEBUG : Level.INFO).ordinal();
+        for (int i = 0; i < result.length; i++) {
+            result[i] = level;
+        }
+        return result;
+    }
 }
@@ -1,60 +1,52 @@
 package com.tiffy.flyring;
 
 import com.hypixel.hytale.component.AddReason;
-import com.hypixel.hytale.component.ArchetypeChunk;
-import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentAccessor;
 import com.hypixel.hytale.component.Holder;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.component.query.Query;
-import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3f;
 import com.hypixel.hytale.protocol.SoundCategory;
+import com.hypixel.hytale.server.core.asset.type.item.config.Item;
 import com.hypixel.hytale.server.core.asset.type.soundevent.config.SoundEvent;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.modules.entity.item.ItemComponent;
 import com.hypixel.hytale.server.core.universe.world.SoundUtil;
+import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.protocol.packets.interface_.ShowEventTitle;
 import com.hypixel.hytale.protocol.FormattedMessage;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 /**
  * LootDropTickSystem - Processes pending loot drops on the World Thread.
  *
- * This system runs every tick and spawns any queued items safely
- * since it runs on the correct thread.
+ * Runs once per world tick and drains that world's LootQueueResource: drops
+ * are spawned in the world they were queued for (one world.execute batch per
+ * tick), altar sounds are played and delayed pedestal textures applied.
+ * Same-item drops close together in one tick spawn as one stack, up to the
+ * item's max stack size (loot.coalesceRadius); ring drops always spawn
+ * individually.
  */
-public class LootDropTickSystem extends EntityTickingSystem<EntityStore> {
+public class LootDropTickSystem extends TickingSystem<EntityStore> {
 
     private final IllegalRings plugin;
 
-    // Static queue so RingLootSystem can add drops
-    private static final ConcurrentLinkedQueue<PendingDrop> pendingDrops = new ConcurrentLinkedQueue<>();
-
-    // Sound queue for altar activation sounds (from PedestalFilter)
-    private static final ConcurrentLinkedQueue<PendingSound> pendingSounds = new ConcurrentLinkedQueue<>();
-
-    // Texture update queue for pedestal texture changes (delayed to avoid CloseWindow override)
-    private static final ConcurrentLinkedQueue<PendingTextureUpdate> pendingTextureUpdates = new ConcurrentLinkedQueue<>();
-
-    // Track last processed tick to avoid processing multiple times per tick
-    private static final AtomicLong lastProcessedTick = new AtomicLong(-1);
-    private static long currentTick = 0;
-
     // Periodic pedestal texture sync interval (every 40 ticks = ~2 seconds)
     private static final int TEXTURE_SYNC_INTERVAL = 40;
-    private static long textureSyncCounter = 0;
 
     // Sound event name for ring drops (custom sound from mod assets)
     private static final String RING_DROP_SOUND = "SFX_Ring_Drop";
@@ -65,6 +57,8 @@ public class LootDropTickSystem extends EntityTickingSystem<EntityStore> {
     private static final String DARK_ALTAR_SOUND = "SFX_Dark_Altar";
     private static int lightAltarSoundIndex = -1;
     private static int darkAltarSoundIndex = -1;
+    // Sound indices are asset-global: resolved once, by whichever world ticks first
+    private static volatile boolean soundsResolved = false;
 
     public static class PendingDrop {
         public final String itemId;
@@ -117,30 +111,40 @@ public class LootDropTickSystem extends EntityTickingSystem<EntityStore> {
     }
 
     /**
-     * Queue a pedestal texture update to happen after a delay.
+     * Queue a pedestal texture update to happen after a delay in the pedestal's world.
      * The actual on/off state is read from CSV when applied.
      */
-    public static void queueTextureUpdate(int x, int y, int z, int delayTicks) {
-        pendingTextureUpdates.add(new PendingTextureUpdate(x, y, z, delayTicks));
+    public static void queueTextureUpdate(Store<EntityStore> store, int x, int y, int z, int delayTicks) {
+        LootQueueResource queue = LootQueueResource.of(store);
+        if (queue != null) {
+            queue.textureUpdates.add(new PendingTextureUpdate(x, y, z, delayTicks));
+        }
     }
 
     /**
-     * Queue an altar activation sound to be played on the world thread.
+     * Queue an altar activation sound to be played on the altar world's thread.
      * Called from PedestalFilter when an altar is activated.
      */
-    public static void queueAltarSound(PlayerRef playerRef, String altarType, double x, double y, double z) {
-        if (playerRef != null) {
-            pendingSounds.add(new PendingSound(playerRef, altarType, new Vector3d(x, y, z)));
+    public static void queueAltarSound(Store<EntityStore> store, PlayerRef playerRef, String altarType,
+            double x, double y, double z) {
+        LootQueueResource queue = LootQueueResource.of(store);
+        if (queue != null && playerRef != null) {
+            queue.sounds.add(new PendingSound(playerRef, altarType, new Vector3d(x, y, z)));
         }
     }
 
     /**
-     * Add a drop to the queue (called from any thread).
+     * Add a drop to the queue of the world it happened in (called from any thread).
+     * @param store The world the drop spawns in (the victim's store)
      * @param killerRef The player who killed the NPC (for sound playback), can be null
      * @param isRing True if this is a ring drop (plays sound), false for crystals
      */
-    public static void queueDrop(String itemId, int quantity, Vector3d position, @Nullable Ref<EntityStore> killerRef, boolean isRing) {
-        pendingDrops.add(new PendingDrop(itemId, quantity, position, killerRef, isRing));
+    public static void queueDrop(Store<EntityStore> store, String itemId, int quantity, Vector3d position,
+            @Nullable Ref<EntityStore> killerRef, boolean isRing) {
+        LootQueueResource queue = LootQueueResource.of(store);
+        if (queue != null) {
+            queue.drops.add(new PendingDrop(itemId, quantity, position, killerRef, isRing));
+        }
     }
 
     public LootDropTickSystem(IllegalRings plugin) {
@@ -148,105 +152,178 @@ public class LootDropTickSystem extends EntityTickingSystem<EntityStore> {
     }
 
     @Override
-    @Nonnull
-    public Query<EntityStore> getQuery() {
-        // Match any entity - we'll only process once per tick
-        return Query.any();
-    }
-
-    @Override
-    public void tick(float delta, int index, @Nonnull ArchetypeChunk<EntityStore> chunk,
-                     @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> buffer) {
-        // Increment tick counter
-        currentTick++;
-
-        // Only process once per tick (first entity we see)
-        long last = lastProcessedTick.get();
-        if (last >= currentTick) {
-            return;  // Already processed this tick
-        }
-
-        // Try to claim this tick for processing
-        if (!lastProcessedTick.compareAndSet(last, currentTick)) {
-            return;  // Another thread claimed it
-        }
+    public void tick(float delta, int systemIndex, @Nonnull Store<EntityStore> store) {
+        LootQueueResource queue = store.getResource(LootQueueResource.getResourceType());
+        if (queue == null)
+            return;
 
-        // Initialize sound indexes if needed
-        if (ringDropSoundIndex < 0) {
-            try {
-                ringDropSoundIndex = SoundEvent.getAssetMap().getIndex(RING_DROP_SOUND);
-            } catch (Exception e) {
-                Log.info(plugin, "[RingLoot] Could not load sound: " + RING_DROP_SOUND);
-                ringDropSoundIndex = -2;  // Mark as failed, don't retry
-            }
-        }
-        if (lightAltarSoundIndex < 0) {
-            try {
-                lightAltarSoundIndex = SoundEvent.getAssetMap().getIndex(LIGHT_ALTAR_SOUND);
-            } catch (Exception e) {
-                lightAltarSoundIndex = -2;
-            }
-        }
-        if (darkAltarSoundIndex < 0) {
-            try {
-                darkAltarSoundIndex = SoundEvent.getAssetMap().getIndex(DARK_ALTAR_SOUND);
-            } catch (Exception e) {
-                darkAltarSoundIndex = -2;
-            }
+        if (!soundsResolved) {
+            resolveSoundIndices();
         }
 
         // Periodic pedestal texture sync: CSV is single source of truth
         // Re-applies every 40 ticks to correct CloseWindow overrides
-        textureSyncCounter++;
-        if (textureSyncCounter >= TEXTURE_SYNC_INTERVAL) {
-            textureSyncCounter = 0;
+        if (++queue.textureSyncCounter >= TEXTURE_SYNC_INTERVAL) {
+            queue.textureSyncCounter = 0;
             syncAllPedestalTextures(store);
         }
 
-        // Process pending drops
-        PendingDrop drop;
-        while ((drop = pendingDrops.poll()) != null) {
-            spawnItem(drop, store, buffer);
+        // Process pending drops: spawning is structural, so hand the batch to the world thread
+        if (!queue.drops.isEmpty()) {
+            List<PendingDrop> batch = new ArrayList<>();
+            PendingDrop drop;
+            while ((drop = queue.drops.poll()) != null) {
+                batch.add(drop);
+            }
+            List<PendingDrop> spawns = coalesce(batch, ModConfig.runtime().lootCoalesceRadius);
+            World world = store.getExternalData().getWorld();
+            if (world != null) {
+                world.execute(() -> {
+                    for (PendingDrop pending : spawns) {
+                        spawnItem(pending, store);
+                    }
+                });
+            }
         }
 
         // Process pending altar sounds
         PendingSound sound;
-        while ((sound = pendingSounds.poll()) != null) {
+        while ((sound = queue.sounds.poll()) != null) {
             playAltarSound(sound, store);
         }
 
         // Process pending texture updates (with delay countdown)
-        processTextureUpdates(store);
+        if (!queue.textureUpdates.isEmpty()) {
+            processTextureUpdates(queue, store);
+        }
     }
 
     /**
-     * Process pending texture updates. Each update has a delay counter.
-     * When delay reaches 0, check CSV and apply texture.
+     * Merges this tick's non-ring drops of the same item that lie within radius of
+     * an earlier one into stacked drops at the earlier drop's position. A stack is
+     * filled up to the item's max stack size; what does not fit starts a new stack
+     * at the drop's own position.
+     * Ring drops are never merged, so each keeps its own sound and announcement.
+     */
+    static List<PendingDrop> coalesce(List<PendingDrop> batch, double radius) {
+        if (radius <= 0 || batch.size() < 2)
+            return batch;
+
+        double radiusSq = radius * radius;
+        List<PendingDrop> merged = new ArrayList<>(batch.size());
+        int[] quantities = new int[batch.size()];
+        // Item ID -> indices into merged of that item's stacks
+        Map<String, IntArrayList> stacksByItem = new HashMap<>();
+        // Item ID -> max stack size (0 = not looked up yet)
+        Object2IntOpenHashMap<String> maxStacks = new Object2IntOpenHashMap<>();
+        boolean changed = false;
+
+        for (PendingDrop drop : batch) {
+            int remaining = drop.quantity;
+            IntArrayList stacks = null;
+            if (!drop.isRing) {
+                stacks = stacksByItem.computeIfAbsent(drop.itemId, k -> new IntArrayList());
+                int maxStack = maxStacks.getInt(drop.itemId);
+                if (maxStack == 0) {
+                    maxStack = maxStackOf(drop.itemId);
+                    maxStacks.put(drop.itemId, maxStack);
+                }
+                for (int i = 0; i < stacks.size() && remaining > 0; i++) {
+                    int candidate = stacks.getInt(i);
+                    int room = maxStack - quantities[candidate];
+                    if (room > 0 && distanceSquared(merged.get(candidate).position, drop.position) <= radiusSq) {
+                        int moved = Math.min(room, remaining);
+                        quantities[candidate] += moved;
+                        remaining -= moved;
+                        changed = true;
+                    }
+                }
+            }
+
+            if (remaining > 0) {
+                if (stacks != null) {
+                    stacks.add(merged.size());
+                }
+                quantities[merged.size()] = remaining;
+                merged.add(drop);
+            }
+        }
+
+        if (!changed)
+            return batch; // Nothing was close enough to merge
+
+        for (int i = 0; i < merged.size(); i++) {
+            PendingDrop drop = merged.get(i);
+            if (quantities[i] != drop.quantity) {
+                merged.set(i, new PendingDrop(drop.itemId, quantities[i], drop.position, drop.killerRef, false));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Max stack size of the item, or Integer.MAX_VALUE (no cap) if the asset is unknown.
      */
-    private void processTextureUpdates(Store<EntityStore> store) {
-        // Collect ready updates, then process them
-        java.util.List<PendingTextureUpdate> ready = new java.util.ArrayList<>();
-
-        // Decrement all counters and collect ready ones
-        for (PendingTextureUpdate update : pendingTextureUpdates) {
-            update.ticksRemaining--;
-            if (update.ticksRemaining <= 0) {
-                ready.add(update);
+    private static int maxStackOf(String itemId) {
+        try {
+            Item item = Item.getAssetMap().getAsset(itemId);
+            if (item != null && item.getMaxStack() > 0) {
+                return item.getMaxStack();
             }
+        } catch (Exception e) {
+            // Asset map not ready - leave the stack uncapped
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private static double distanceSquared(Vector3d a, Vector3d b) {
+        double dx = a.getX() - b.getX();
+        double dy = a.getY() - b.getY();
+        double dz = a.getZ() - b.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private void resolveSoundIndices() {
+        try {
+            ringDropSoundIndex = SoundEvent.getAssetMap().getIndex(RING_DROP_SOUND);
+        } catch (Exception e) {
+            Log.info(plugin, "[RingLoot] Could not load sound: " + RING_DROP_SOUND);
+            ringDropSoundIndex = -2;  // Mark as failed, don't retry
+        }
+        try {
+            lightAltarSoundIndex = SoundEvent.getAssetMap().getIndex(LIGHT_ALTAR_SOUND);
+        } catch (Exception e) {
+            lightAltarSoundIndex = -2;
         }
+        try {
+            darkAltarSoundIndex = SoundEvent.getAssetMap().getIndex(DARK_ALTAR_SOUND);
+        } catch (Exception e) {
+            darkAltarSoundIndex = -2;
+        }
+        soundsResolved = true;
+    }
 
-        // Remove and process ready updates
-        for (PendingTextureUpdate update : ready) {
-            pendingTextureUpdates.remove(update);
-            applyPedestalTexture(update.x, update.y, update.z, store);
+    /**
+     * Process pending texture updates. Each update has a delay counter.
+     * When delay reaches 0, check CSV and apply texture.
+     */
+    private void processTextureUpdates(LootQueueResource queue, Store<EntityStore> store) {
+        Iterator<PendingTextureUpdate> it = queue.textureUpdates.iterator();
+        while (it.hasNext()) {
+            PendingTextureUpdate update = it.next();
+            if (--update.ticksRemaining <= 0) {
+                it.remove();
+                applyPedestalTexture(update.x, update.y, update.z, store);
+            }
         }
     }
 
     /**
      * Apply pedestal texture based on CSV item data.
      * Reads from CSV to determine if ring is inside -> on/off texture.
+     * @return true if an altar block was found (and updated) in this world
      */
-    private void applyPedestalTexture(int x, int y, int z, Store<EntityStore> store) {
+    private boolean applyPedestalTexture(int x, int y, int z, Store<EntityStore> store) {
         try {
             // Check CSV for item at this position
             PedestalRegistry.PedestalData data = PedestalRegistry.get(x, y, z);
@@ -255,35 +332,45 @@ public class LootDropTickSystem extends EntityTickingSystem<EntityStore> {
 
             // Get world and chunk
             var world = store.getExternalData().getWorld();
-            if (world == null) return;
+            if (world == null) return false;
 
             var chunk = world.getChunkIfInMemory(com.hypixel.hytale.math.util.ChunkUtil.indexChunkFromBlock(x, z));
-            if (chunk == null) return;
+            if (chunk == null) return false;
 
             // Resolve BASE block type (state variants can't look up other states)
             var blockType = PedestalFilter.resolveBaseAltarType(world, x, y, z);
-            if (blockType == null) return;
+            if (blockType == null) return false;
 
             // Set texture state based on CSV data
             String stateName = hasRing ? "Activated" : "default";
             chunk.setBlockInteractionState(x, y, z, blockType, stateName, true);
             chunk.markNeedsSaving();
+            return true;
 
         } catch (Exception e) {
             // Silent fail
+            return false;
         }
     }
 
     /**
-     * Periodic sync: Apply textures for ALL pedestals from CSV.
+     * Periodic sync: Apply textures for all of this world's pedestals from CSV.
      * CSV item field is the single source of truth for on/off state.
+     * Pedestals loaded without a world (older CSV rows) are probed too, and the
+     * first world that finds their altar block claims them.
      */
     private void syncAllPedestalTextures(Store<EntityStore> store) {
         try {
-            var allPedestals = PedestalRegistry.getAll();
-            for (PedestalRegistry.PedestalData data : allPedestals.values()) {
-                applyPedestalTexture(data.x, data.y, data.z, store);
-            }
+            World world = store.getExternalData().getWorld();
+            String worldName = (world != null) ? world.getName() : null;
+            if (worldName == null) return;
+
+            PedestalRegistry.forEachInWorld(worldName, data -> applyPedestalTexture(data.x, data.y, data.z, store));
+            PedestalRegistry.forEachInWorld(PedestalRegistry.UNKNOWN_WORLD, data -> {
+                if (applyPedestalTexture(data.x, data.y, data.z, store)) {
+                    PedestalRegistry.setWorld(data.x, data.y, data.z, worldName);
+                }
+            });
         } catch (Exception e) {
             // Silent fail - will retry next interval
         }
@@ -319,7 +406,7 @@ public class LootDropTickSystem extends EntityTickingSystem<EntityStore> {
         }
     }
 
-    private void spawnItem(PendingDrop drop, Store<EntityStore> store, CommandBuffer<EntityStore> buffer) {
+    private void spawnItem(PendingDrop drop, Store<EntityStore> store) {
         try {
             ItemStack stack = new ItemStack(drop.itemId, drop.quantity);
 
@@ -340,9 +427,8 @@ public class LootDropTickSystem extends EntityTickingSystem<EntityStore> {
                 itemComponent.setPickupDelay(0.5f);
             }
 
-            // Use CommandBuffer instead of store.addEntity() to avoid "Store is currently processing" error
-            // CommandBuffer defers the operation until after all systems finish processing
-            buffer.addEntity(itemHolder, AddReason.SPAWN);
+            // Runs from world.execute, outside system processing, so the store accepts the entity directly
+            store.addEntity(itemHolder, AddReason.SPAWN);
 
             // Play sound and show event title for killer if this is a ring drop
             if (drop.isRing && drop.killerRef != null && drop.killerRef.isValid()) {
@@ -372,10 +458,7 @@ public class LootDropTickSystem extends EntityTickingSystem<EntityStore> {
                 }
             }
 
-            boolean debug = ModConfig.getInstance() != null && ModConfig.getInstance().debugLogging;
-            if (debug) {
-                Log.info(plugin, "[RingLoot] Spawned " + drop.itemId + " at " + drop.position);
-            }
+            Log.debug(Log.Category.LOOT, () -> "[RingLoot] Spawned " + drop.itemId + " at " + drop.position);
 
         } catch (Exception e) {
             Log.info(plugin, "[RingLoot] Error spawning " + drop.itemId + ": " + e.getMessage());
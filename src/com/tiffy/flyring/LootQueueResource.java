@@ -0,0 +1,56 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.annotation.Nullable;
+
+/**
+ * LootQueueResource - Per-world queues drained by LootDropTickSystem.
+ *
+ * Item drops, altar sounds and pedestal texture updates are queued into the
+ * world they belong to, so each world only ever spawns its own drops.
+ * The queues may be filled from any thread; everything else is only touched
+ * by the owning world's thread.
+ */
+public class LootQueueResource implements Resource<EntityStore> {
+
+    final ConcurrentLinkedQueue<LootDropTickSystem.PendingDrop> drops = new ConcurrentLinkedQueue<>();
+    final ConcurrentLinkedQueue<LootDropTickSystem.PendingSound> sounds = new ConcurrentLinkedQueue<>();
+    final ConcurrentLinkedQueue<LootDropTickSystem.PendingTextureUpdate> textureUpdates = new ConcurrentLinkedQueue<>();
+
+    // Ticks since this world last re-applied all pedestal textures
+    int textureSyncCounter;
+
+    /**
+     * The queue of the given world, null if the store is gone or not set up yet.
+     */
+    @Nullable
+    static LootQueueResource of(@Nullable Store<EntityStore> store) {
+        return (store != null && type != null) ? store.getResource(type) : null;
+    }
+
+    @Override
+    public LootQueueResource clone() {
+        LootQueueResource copy = new LootQueueResource();
+        copy.drops.addAll(this.drops);
+        copy.sounds.addAll(this.sounds);
+        copy.textureUpdates.addAll(this.textureUpdates);
+        copy.textureSyncCounter = this.textureSyncCounter;
+        return copy;
+    }
+
+    // Static helper to get resource type (registered in IllegalRings)
+    private static ResourceType<EntityStore, LootQueueResource> type;
+
+    public static void setResourceType(ResourceType<EntityStore, LootQueueResource> type) {
+        LootQueueResource.type = type;
+    }
+
+    public static ResourceType<EntityStore, LootQueueResource> getResourceType() {
+        return type;
+    }
+}
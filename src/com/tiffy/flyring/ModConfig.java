@@ -33,6 +33,18 @@ public class ModConfig {
         public boolean nightVisionEnabled = true; // Enable/disable Night Vision listener (Ring + Trigger Item)
         public String nightVisionTriggerItem = "Furniture_Crude_Torch"; // Item needed for Night Vision (with
                                                                         // Peaceful/Heal Ring)
+        // DamageCause ID -> categories ("FIRE", "WATER", "FALL") for modded causes.
+        // Overrides the built-in keyword match; an empty list means no immunity applies.
+        public Map<String, List<String>> damageCauseCategories = new HashMap<>();
+        public int peacefulClearWindowMs = 1000; // Every NPC's target memory is checked for Peaceful Ring wearers once per window
+        public double peacefulPurgeRadius = 32.0; // On equip, NPCs within this radius forget the wearer immediately
+    }
+
+    // Per-stage switches for the damage pipeline (each stage is its own DamageEventSystem)
+    public static class DamageStages {
+        public boolean playerImmunities = true; // Fire/Water/Fly/Peaceful immunities on player victims
+        public boolean attackerEffects = true; // Lifesteal and peaceful target clearing for ring-wearing attackers
+        public boolean npcKillDetection = true; // NPC kill detection for ring loot and petpiece drops
     }
 
     public static class Config {
@@ -41,7 +53,9 @@ public class ModConfig {
         public RingEnabled enabled = new RingEnabled();
         public RingEnabled craftable = new RingEnabled();
         public GameplayValues gameplay = new GameplayValues();
+        public DamageStages damageStages = new DamageStages();
         public boolean debugLogging = false; // Toggle for mod-specific debug logs
+        public Map<String, String> logLevels = new HashMap<>(); // Log category -> DEBUG/INFO/WARN/SEVERE/OFF (e.g. "DAMAGE": "OFF")
         public boolean testserver = false; // Only for testing: Use localhost:9090 instead of production server
         public boolean backpackEnabled = true; // Controls if rings work in backpacks
         public boolean notification = true; // Show update notifications
@@ -184,6 +198,34 @@ public class ModConfig {
         }
     }
 
+    /**
+     * LootPool - Weighted pool in a data-driven loot table.
+     * Each roll picks exactly one entry by weight (an entry without item/ring drops nothing).
+     */
+    public static class LootPool {
+        public int rolls = 1;                               // Draws from this pool per kill
+        public List<LootDrop> entries = new ArrayList<>();
+    }
+
+    /**
+     * LootDrop - One weighted outcome of a LootPool.
+     */
+    public static class LootDrop {
+        public String item;                     // Item ID to drop (null/empty = nothing)
+        public String ring;                     // Or a ring type ("fly", "fire", ...) instead of item
+        public double weight = 1.0;             // Relative weight within the pool
+        public int minQuantity = 1;
+        public int maxQuantity = 1;
+
+        public LootDrop() {}
+
+        public LootDrop(String item, String ring, double weight) {
+            this.item = item;
+            this.ring = ring;
+            this.weight = weight;
+        }
+    }
+
     /**
      * LootConfig - Global loot system configuration
      */
@@ -191,6 +233,10 @@ public class ModConfig {
         public boolean enabled = true;
         public Map<String, RingLootConfig> rings = null; // Deprecated: old ring-centric format, kept for migration
         public List<NpcLootEntry> npcs = new ArrayList<>();
+        // NPC Role Name -> weighted pools; applied in addition to the simple npcs entries
+        public Map<String, List<LootPool>> tables = new HashMap<>();
+        // Same-item (non-ring) drops within this many blocks in one tick spawn as one stack (0 = off)
+        public double coalesceRadius = 1.5;
 
         public LootConfig() {
             // Default NPC loot entries - 5% ring drop, 70% studs
@@ -208,6 +254,28 @@ public class ModConfig {
             npcs.add(new NpcLootEntry("Golem_Crystal_Flame", "gaia", 0.05, null, 0.0, 0));
         }
 
+        /**
+         * Converts a simple NpcLootEntry into the equivalent single-roll pool:
+         * ring with directDropRate, otherwise fragment with fragmentDropRate.
+         */
+        public static LootPool toPool(NpcLootEntry entry) {
+            double direct = clamp01(entry.directDropRate);
+            double fragment = clamp01(entry.fragmentDropRate);
+            String fragmentItem = (entry.fragmentItem != null && !entry.fragmentItem.isEmpty())
+                    ? entry.fragmentItem
+                    : "Ingredient_Stud_Iron";
+
+            LootPool pool = new LootPool();
+            pool.entries.add(new LootDrop(null, entry.ring, direct));
+            pool.entries.add(new LootDrop(fragmentItem, null, (1.0 - direct) * fragment));
+            pool.entries.add(new LootDrop(null, null, (1.0 - direct) * (1.0 - fragment)));
+            return pool;
+        }
+
+        private static double clamp01(double value) {
+            return Math.max(0.0, Math.min(1.0, value));
+        }
+
         /**
          * Migrate old ring-centric format to NPC-centric list.
          * Returns true if migration was performed.
@@ -237,10 +305,17 @@ public class ModConfig {
     private static final String OLD_CONFIG_DIR = "mods/tiffy"; // Migration
     private static final String CONFIG_FILE = "config.json";
     private static Config instance;
+    private static volatile RuntimeConfig runtime = RuntimeConfig.from(null);
     private static File gameDir;
     public static String VERSION = BuildInfo.VERSION;
 
     public static ConfigLoadData loadWithStatus(File gameDirectory) {
+        ConfigLoadData result = loadInternal(gameDirectory);
+        publishRuntime();
+        return result;
+    }
+
+    private static ConfigLoadData loadInternal(File gameDirectory) {
         gameDir = gameDirectory;
         migrateOldConfig(gameDirectory);
 
@@ -406,6 +481,10 @@ public class ModConfig {
         // Migrate old ring-centric loot to NPC-centric
         if (config.loot != null) {
             modified |= config.loot.migrateFromRings();
+            if (config.loot.tables == null) {
+                config.loot.tables = new HashMap<>();
+                modified = true;
+            }
         }
 
         if (config.recipeOverrides == null) {
@@ -413,6 +492,11 @@ public class ModConfig {
             modified = true;
         }
 
+        if (config.damageStages == null) {
+            config.damageStages = new DamageStages();
+            modified = true;
+        }
+
         modified |= ensureRingInConfig(config, "Jewelry_Fly_Ring",
                 new Ingredient("Ingredient_Bar_Iron", 300),
                 new Ingredient("Ingredient_Life_Essence", 100),
@@ -493,6 +577,7 @@ public class ModConfig {
     public static void save(File gameDirectory) {
         if (instance == null)
             return;
+        publishRuntime();
 
         // Clean empty ingredients before saving
         if (instance.recipeOverrides != null) {
@@ -540,6 +625,24 @@ public class ModConfig {
         return instance;
     }
 
+    /**
+     * Immutable snapshot of the current config for hot paths.
+     */
+    public static RuntimeConfig runtime() {
+        return runtime;
+    }
+
+    /**
+     * Rebuild and swap the RuntimeConfig from the live Config.
+     * Call after any in-place edit of the config (e.g. from the config UI).
+     */
+    public static void publishRuntime() {
+        runtime = RuntimeConfig.from(instance);
+        Log.configure(instance);
+        // Picks up edited damageCauseCategories overrides without an asset reload
+        DamageCauseTable.rebuild();
+    }
+
     private static void migrateOldConfig(File gameDirectory) {
         File oldConfigDir = new File(gameDirectory, OLD_CONFIG_DIR);
         File oldConfigFile = new File(oldConfigDir, CONFIG_FILE);
@@ -0,0 +1,47 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.annotation.Nullable;
+
+/**
+ * NightVisionResource - Per-world night vision edges waiting to be applied.
+ *
+ * RingUtils.setNightVision queues each on/off edge into the player's world;
+ * RingRefreshSystem flushes that world's queue once per tick in one batch.
+ * The queue may be filled from any thread.
+ */
+public class NightVisionResource implements Resource<EntityStore> {
+
+    final ConcurrentLinkedQueue<RingUtils.NightVisionTransition> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The queue of the given world, null if the store is gone or not set up yet.
+     */
+    @Nullable
+    static NightVisionResource of(@Nullable Store<EntityStore> store) {
+        return (store != null && type != null) ? store.getResource(type) : null;
+    }
+
+    @Override
+    public NightVisionResource clone() {
+        NightVisionResource copy = new NightVisionResource();
+        copy.pending.addAll(this.pending);
+        return copy;
+    }
+
+    // Static helper to get resource type (registered in IllegalRings)
+    private static ResourceType<EntityStore, NightVisionResource> type;
+
+    public static void setResourceType(ResourceType<EntityStore, NightVisionResource> type) {
+        NightVisionResource.type = type;
+    }
+
+    public static ResourceType<EntityStore, NightVisionResource> getResourceType() {
+        return type;
+    }
+}
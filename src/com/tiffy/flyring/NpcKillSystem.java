@@ -0,0 +1,153 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.SystemGroup;
+import com.hypixel.hytale.component.dependency.Dependency;
+import com.hypixel.hytale.component.dependency.Order;
+import com.hypixel.hytale.component.dependency.SystemDependency;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageEventSystem;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageModule;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatValue;
+import com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.npc.entities.NPCEntity;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * NpcKillSystem - Detects lethal hits on NPCs and hands a KillRecord to every
+ * registered loot listener (ring loot, petpiece scroll, ...).
+ *
+ * Queries NPCEntity + EntityStatMap and runs in the inspect group, after other
+ * systems have adjusted, cancelled and applied the damage, so the kill check
+ * reads post-hit health and each component is looked up once per lethal hit.
+ */
+public class NpcKillSystem extends DamageEventSystem {
+
+    /**
+     * A detected NPC kill. Position is the victim's position at the time of death.
+     */
+    public static class KillRecord {
+        public final int roleIndex;
+        public final String roleName;
+        public final Vector3d position;
+        @Nullable
+        public final Ref<EntityStore> killerRef;
+        public final Store<EntityStore> store;
+
+        public KillRecord(int roleIndex, String roleName, Vector3d position, @Nullable Ref<EntityStore> killerRef,
+                Store<EntityStore> store) {
+            this.roleIndex = roleIndex;
+            this.roleName = roleName;
+            this.position = position;
+            this.killerRef = killerRef;
+            this.store = store;
+        }
+    }
+
+    private final IllegalRings plugin;
+    private final List<Consumer<KillRecord>> listeners = new CopyOnWriteArrayList<>();
+
+    public NpcKillSystem(IllegalRings plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Subscribes a loot consumer. Listeners run on the world thread, in registration order.
+     */
+    public void addListener(Consumer<KillRecord> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    @Nonnull
+    public Query<EntityStore> getQuery() {
+        return Query.and(NPCEntity.getComponentType(), EntityStatMap.getComponentType());
+    }
+
+    /**
+     * Explicitly after both ring stages (the inspect group already follows the filter group).
+     */
+    @Override
+    @Nonnull
+    public Set<Dependency<EntityStore>> getDependencies() {
+        return Set.of(new SystemDependency<>(Order.AFTER, RingImmunitySystem.class),
+                new SystemDependency<>(Order.AFTER, RingAttackerSystem.class));
+    }
+
+    @Override
+    @Nullable
+    public SystemGroup<EntityStore> getGroup() {
+        DamageModule module = DamageModule.get();
+        return (module != null) ? module.getInspectDamageGroup() : null;
+    }
+
+    @Override
+    public void handle(int index, @Nonnull ArchetypeChunk<EntityStore> chunk, @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> buffer, @Nonnull Damage event) {
+        long start = System.nanoTime();
+        try {
+            if (!ModConfig.runtime().npcKillDetection || listeners.isEmpty())
+                return;
+
+            // Only process damage that actually lands
+            float amount = event.getAmount();
+            if (event.isCancelled() || amount <= 0)
+                return;
+
+            EntityStatMap victimStats = chunk.getComponent(index, EntityStatMap.getComponentType());
+            if (victimStats == null)
+                return;
+
+            // The inspect group runs after ApplyDamage: health already has this hit taken off.
+            // A kill is the hit that took health from above the minimum down to it
+            // (later hits on an already-dead NPC don't count again).
+            EntityStatValue healthStat = victimStats.get(DefaultEntityStatTypes.getHealth());
+            if (healthStat == null)
+                return;
+            float health = healthStat.get();
+            float min = healthStat.getMin();
+            if (health > min || health + amount <= min)
+                return; // Not a kill
+
+            NPCEntity npcEntity = chunk.getComponent(index, NPCEntity.getComponentType());
+            TransformComponent transform = chunk.getComponent(index, TransformComponent.getComponentType());
+            if (npcEntity == null || transform == null)
+                return;
+
+            Ref<EntityStore> killerRef = (event.getSource() instanceof Damage.EntitySource entitySource)
+                    ? entitySource.getRef()
+                    : null;
+            KillRecord record = new KillRecord(npcEntity.getRoleIndex(), npcEntity.getRoleName(),
+                    transform.getPosition(), killerRef, store);
+            DamageMetrics.recordKill();
+
+            Log.debug(Log.Category.LOOT, () -> "[RingLoot] NPC death detected: " + record.roleName + " at " + record.position);
+
+            for (Consumer<KillRecord> listener : listeners) {
+                try {
+                    listener.accept(record);
+                } catch (Exception e) {
+                    Log.info(plugin, "[ERR-1025] Kill listener failed: " + e.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            Log.info(plugin, "[RingLoot] Death check error: " + e.getMessage());
+        } finally {
+            DamageMetrics.recordEvent(DamageMetrics.STAGE_KILL, start);
+        }
+    }
+}
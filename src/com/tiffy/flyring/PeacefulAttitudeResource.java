@@ -0,0 +1,59 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.npc.blackboard.Blackboard;
+
+import java.lang.ref.WeakReference;
+import javax.annotation.Nullable;
+
+/**
+ * PeacefulAttitudeResource - Per-world record of the Blackboard the
+ * PeacefulAttitudeProvider was installed on.
+ *
+ * Held weakly, so a replaced Blackboard (and its views) can be collected.
+ * Only touched by the owning world's thread.
+ */
+public class PeacefulAttitudeResource implements Resource<EntityStore> {
+
+    private WeakReference<Blackboard> installedOn = new WeakReference<>(null);
+
+    /**
+     * The attitude state of the given world, null if the store is gone or not set up yet.
+     */
+    @Nullable
+    static PeacefulAttitudeResource of(@Nullable Store<EntityStore> store) {
+        return (store != null && type != null) ? store.getResource(type) : null;
+    }
+
+    /**
+     * True if the provider is already installed on this Blackboard.
+     */
+    boolean isInstalledOn(Blackboard blackboard) {
+        return installedOn.get() == blackboard;
+    }
+
+    void markInstalled(Blackboard blackboard) {
+        installedOn = new WeakReference<>(blackboard);
+    }
+
+    @Override
+    public PeacefulAttitudeResource clone() {
+        PeacefulAttitudeResource copy = new PeacefulAttitudeResource();
+        copy.installedOn = this.installedOn;
+        return copy;
+    }
+
+    // Static helper to get resource type (registered in IllegalRings)
+    private static ResourceType<EntityStore, PeacefulAttitudeResource> type;
+
+    public static void setResourceType(ResourceType<EntityStore, PeacefulAttitudeResource> type) {
+        PeacefulAttitudeResource.type = type;
+    }
+
+    public static ResourceType<EntityStore, PeacefulAttitudeResource> getResourceType() {
+        return type;
+    }
+}
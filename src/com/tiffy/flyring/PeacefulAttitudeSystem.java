@@ -1,60 +1,48 @@
 package com.tiffy.flyring;
 
-import com.hypixel.hytale.component.ArchetypeChunk;
-import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
-import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.npc.blackboard.Blackboard;
 import com.hypixel.hytale.server.npc.blackboard.view.attitude.AttitudeView;
 
-import java.util.Collections;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
 
 /**
  * PeacefulAttitudeSystem - Installs the PeacefulAttitudeProvider into the
  * Blackboard.
+ *
+ * The AttitudeViews live as long as the world's Blackboard, so the provider is
+ * installed once per Blackboard instance (see PeacefulAttitudeResource). After
+ * that a tick costs one resource lookup and a reference compare; the views are
+ * only walked again if the Blackboard is replaced.
  */
-public class PeacefulAttitudeSystem extends EntityTickingSystem<EntityStore> {
+public class PeacefulAttitudeSystem extends TickingSystem<EntityStore> {
 
-    private final PeacefullRing handler;
-    private final Set<AttitudeView> installedViews = Collections.newSetFromMap(new ConcurrentHashMap<>());
-    private final PeacefulAttitudeProvider attitudeProvider;
-
-    public PeacefulAttitudeSystem(PeacefullRing handler) {
-        this.handler = handler;
-        this.attitudeProvider = new PeacefulAttitudeProvider(handler);
-    }
-
-    @Override
-    public Query<EntityStore> getQuery() {
-        return Query.any();
-    }
+    private final PeacefulAttitudeProvider attitudeProvider = new PeacefulAttitudeProvider();
 
     @Override
-    public void tick(float delta, int index, ArchetypeChunk<EntityStore> chunk, Store<EntityStore> store,
-            CommandBuffer<EntityStore> buffer) {
-        // We only need to run this logic once per tick per world, or even less
-        // frequently.
-        // running for every entity is wasteful, but required if we rely on
-        // EntityTickingSystem for injection.
-        // We can optimize by checking only once per chunk or similar, but checking
-        // Blackboard existence is fast.
+    public void tick(float delta, int systemIndex, @Nonnull Store<EntityStore> store) {
+        PeacefulAttitudeResource installed = PeacefulAttitudeResource.of(store);
+        if (installed == null)
+            return;
 
         try {
             // Get Blackboard resource from the store (World)
             Blackboard blackboard = store.getResource(Blackboard.getResourceType());
-
-            if (blackboard != null) {
-                // Install provider for all views
-                blackboard.forEachView(AttitudeView.class, view -> {
-                    if (installedViews.add(view)) {
-                        // Register provider with priority 0
-                        view.registerProvider(0, attitudeProvider);
-                    }
-                });
+            if (blackboard == null || installed.isInstalledOn(blackboard))
+                return;
+
+            int[] views = new int[1];
+            blackboard.forEachView(AttitudeView.class, view -> {
+                // Register provider with priority 0
+                view.registerProvider(0, attitudeProvider);
+                views[0]++;
+            });
+
+            // A Blackboard without views yet is retried next tick
+            if (views[0] > 0) {
+                installed.markInstalled(blackboard);
             }
         } catch (Exception e) {
             // Ignore errors
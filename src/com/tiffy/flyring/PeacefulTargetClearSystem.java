@@ -5,46 +5,70 @@ import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.builtin.npccombatactionevaluator.memory.TargetMemory;
-import com.hypixel.hytale.server.core.entity.UUIDComponent;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.util.TargetUtil;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
-import java.util.UUID;
 import it.unimi.dsi.fastutil.ints.Int2FloatOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+
+import javax.annotation.Nonnull;
 
 /**
  * PeacefulTargetClearSystem - Periodically clears any peaceful players from NPC
  * target memories.
  * This ensures that even if an NPC targets a player, it immediately forgets
  * them.
+ *
+ * Only entities with a TargetMemory are visited, and each tick handles one
+ * rotating slice of their archetype chunks (by chunk ordinal), so every NPC is
+ * checked once per gameplay.peacefulClearWindowMs rather than every tick. A
+ * chunk outside this tick's slice is skipped before any entity is touched.
+ * Equipping the ring also triggers a one-shot purgeAround() of nearby NPCs, so
+ * this polling is only a safety net.
  */
 public class PeacefulTargetClearSystem extends EntityTickingSystem<EntityStore> {
 
-    private final PeacefullRing handler;
-
-    public PeacefulTargetClearSystem(PeacefullRing handler) {
-        this.handler = handler;
-    }
-
     @Override
     public Query<EntityStore> getQuery() {
         // Only run for entities that actually have a TargetMemory
-        return Query.any();
+        return Query.and(TargetMemory.getComponentType());
     }
 
+    /**
+     * Per-chunk entry point: chunks are numbered in visit order each tick and only
+     * those whose ordinal falls in this tick's slice are walked.
+     */
     @Override
-    public void tick(float delta, int index, ArchetypeChunk<EntityStore> chunk, Store<EntityStore> store,
-            CommandBuffer<EntityStore> buffer) {
-        if (handler == null || handler.getPeacefulPlayers().isEmpty()) {
+    public void tick(float delta, @Nonnull ArchetypeChunk<EntityStore> chunk, @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> buffer) {
+        RingHolderResource holders = store.getResource(RingHolderResource.getResourceType());
+        if (holders != null && !holders.hasAny(RingStateComponent.PEACEFUL)) {
             return;
         }
 
-        try {
-            Ref<EntityStore> entityRef = chunk.getReferenceTo(index);
-            TargetMemory memory = (TargetMemory) store.getComponent(entityRef, TargetMemory.getComponentType());
+        PeacefulWorldState state = store.getResource(PeacefulWorldState.getResourceType());
+        if (state != null) {
+            // Time slicing: this chunk's turn comes once per window
+            int slices = sliceCount(delta);
+            if (slices > 1 && (state.nextChunkOrdinal() + state.getTick()) % slices != 0)
+                return;
+        }
 
+        int size = chunk.size();
+        for (int index = 0; index < size; index++) {
+            clearTargets(chunk, index, state, store);
+        }
+    }
+
+    private void clearTargets(ArchetypeChunk<EntityStore> chunk, int index, PeacefulWorldState state,
+            Store<EntityStore> store) {
+        try {
+            TargetMemory memory = chunk.getComponent(index, TargetMemory.getComponentType());
             if (memory == null)
                 return;
 
@@ -56,51 +80,22 @@ public class PeacefulTargetClearSystem extends EntityTickingSystem<EntityStore>
                 }
             }
 
-            // 2. Check Known Hostiles Map
+            // 2. Strip peaceful players from the Known Hostiles map (keys are ref indices)
             Int2FloatOpenHashMap hostiles = memory.getKnownHostiles();
-            if (hostiles != null && !hostiles.isEmpty()) {
-                IntIterator it = hostiles.keySet().iterator();
-                while (it.hasNext()) {
-                    int targetIndex = it.nextInt();
-                    Ref<EntityStore> hostileRef = chunk.getReferenceTo(targetIndex); // Note: This might be wrong
-                                                                                     // reference resolution if target
-                                                                                     // is in another chunk?
-                    // Actually, getting a Ref from just an index is tricky globally if we don't
-                    // know the chunk.
-                    // But usually Ref contains index. Wait, getReferenceTo(index) gets Ref for THIS
-                    // chunk's entity.
-                    // Hostiles stored as IDs? The map key is 'int'. Is it entity ID or index?
-                    // TargetMemory documentation/bytecode needed.
-                    // Decompilation of PassiveMobsClearPlayerTargetsSystem used:
-                    // Ref.getIndex() to remove. So keys are INDICES? Or Entity IDs?
-                    // Decompilation: hostiles.remove( attackerRef.getIndex() )
-                    // So it seems it uses Reference Index (ECS Index).
-
-                    // To verify if that index belongs to a peaceful player, we need to access that
-                    // entity.
-                    // Accessing random entity by index is efficient via Store if we have it.
-                    // store.getComponent(index, ...) might work? No, Store usually needs Ref.
-                    // Wait, Store methods: Ref getReferenceTo(int id); ?
-
-                    // Safest path: If we can't easily resolve the index to an entity to check its
-                    // UUID,
-                    // we might skip this complex check or rely on the fact that RingDamageSystem
-                    // clears it on attack.
-                    // BUT, the original mod iterates the map. how did it resolve?
-                    // It had Ref.
-
-                    // Actually, let's look at the decompilation of the original mod again if
-                    // needed.
-                    // It iterated `ref` from somewhere.
-                    // Ah, `PassiveMobsClearPlayerTargetsSystem` logic:
-                    // It iterated `TargetMemory.getClosestHostile()` -> Ref. Easy.
-                    // For the list/map: It seemed to iterate... `targetMemory.getKnownHostiles()`?
-                    // No, wait.
-                    // `clearMarkedPlayerTargets` method iterated... ??
-
-                    // Simplification: Just clearing the "ClosestHostile" (Primary Target) is 90% of
-                    // the value.
-                    // That stops the immediate attack tracking.
+            IntOpenHashSet peaceful = (state != null) ? state.getPeacefulIndices() : null;
+            if (hostiles != null && !hostiles.isEmpty() && peaceful != null && !peaceful.isEmpty()) {
+                if (peaceful.size() <= hostiles.size()) {
+                    IntIterator it = peaceful.iterator();
+                    while (it.hasNext()) {
+                        hostiles.remove(it.nextInt());
+                    }
+                } else {
+                    IntIterator it = hostiles.keySet().iterator();
+                    while (it.hasNext()) {
+                        if (peaceful.contains(it.nextInt())) {
+                            it.remove();
+                        }
+                    }
                 }
             }
 
@@ -109,14 +104,77 @@ public class PeacefulTargetClearSystem extends EntityTickingSystem<EntityStore>
         }
     }
 
+    /**
+     * One-shot purge when a player equips the Peaceful Ring: clears the player
+     * from the TargetMemory of every entity within radius of their position.
+     * Must run on the player's world thread.
+     */
+    public static int purgeAround(Ref<EntityStore> playerRef, Store<EntityStore> store, double radius) {
+        if (playerRef == null || !playerRef.isValid() || radius <= 0)
+            return 0;
+
+        TransformComponent transform = store.getComponent(playerRef, TransformComponent.getComponentType());
+        if (transform == null)
+            return 0;
+
+        int cleared = 0;
+        int playerIndex = playerRef.getIndex();
+        for (Ref<EntityStore> ref : TargetUtil.getAllEntitiesInSphere(transform.getPosition(), radius, store)) {
+            if (ref == null || !ref.isValid() || ref.equals(playerRef))
+                continue;
+            TargetMemory memory = store.getComponent(ref, TargetMemory.getComponentType());
+            if (memory == null)
+                continue;
+
+            boolean changed = false;
+            if (playerRef.equals(memory.getClosestHostile())) {
+                memory.setClosestHostile(null);
+                changed = true;
+            }
+            Int2FloatOpenHashMap hostiles = memory.getKnownHostiles();
+            if (hostiles != null && hostiles.containsKey(playerIndex)) {
+                hostiles.remove(playerIndex);
+                changed = true;
+            }
+            if (changed) {
+                cleared++;
+            }
+        }
+        return cleared;
+    }
+
+    /**
+     * Number of ticks one clear window spans at the current tick length.
+     */
+    private static int sliceCount(float delta) {
+        int windowMs = ModConfig.runtime().peacefulClearWindowMs;
+        if (windowMs <= 0 || delta <= 0)
+            return 1;
+        return Math.max(1, Math.round(windowMs / (delta * 1000f)));
+    }
+
     private boolean isPeaceful(Ref<EntityStore> targetRef, Store<EntityStore> store) {
         if (targetRef == null || !targetRef.isValid())
             return false;
 
-        UUIDComponent uuidComp = (UUIDComponent) store.getComponent(targetRef, UUIDComponent.getComponentType());
-        if (uuidComp != null) {
-            return handler.getPeacefulPlayers().contains(uuidComp.getUuid());
+        RingStateComponent state = store.getComponent(targetRef, RingStateComponent.getComponentType());
+        return state != null && state.has(RingStateComponent.PEACEFUL);
+    }
+
+    /**
+     * Clock - Advances each world's PeacefulWorldState tick once per tick,
+     * rotating the chunk slice PeacefulTargetClearSystem works on, and rebuilds the
+     * peaceful index set when the world's ring holders changed.
+     */
+    public static class Clock extends TickingSystem<EntityStore> {
+
+        @Override
+        public void tick(float delta, int systemIndex, @Nonnull Store<EntityStore> store) {
+            PeacefulWorldState state = store.getResource(PeacefulWorldState.getResourceType());
+            if (state != null) {
+                state.advance();
+                state.refresh(store, store.getResource(RingHolderResource.getResourceType()));
+            }
         }
-        return false;
     }
 }
@@ -0,0 +1,131 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * PeacefulWorldState - Per-world state of the Peaceful Ring target clearing.
+ *
+ * Holds the world's tick counter and per-tick chunk ordinal used to rotate
+ * PeacefulTargetClearSystem's chunk slices, and the refs of the Peaceful Ring
+ * wearers in this world with their current ref indices (re-derived every tick),
+ * so TargetMemory hostile maps can be purged with primitive lookups only (and
+ * PeacefulAttitudeProvider answers with one bit test).
+ * Only touched by the owning world's thread.
+ */
+public class PeacefulWorldState implements Resource<EntityStore> {
+
+    private long tick;
+    // Archetype chunks PeacefulTargetClearSystem has visited this tick
+    private int chunkOrdinal;
+    // Refs of the wearers; their indices are re-derived every tick since a ref's index can change
+    private final List<Ref<EntityStore>> peacefulRefs = new ArrayList<>();
+    private final IntOpenHashSet peacefulIndices = new IntOpenHashSet();
+    // Same indices as a bitset: O(1) membership for the attitude provider
+    private final BitSet peacefulBits = new BitSet();
+    // RingHolderResource version the ref list was built from (-1 = never / retry)
+    private int builtVersion = -1;
+
+    public long getTick() {
+        return tick;
+    }
+
+    void advance() {
+        tick++;
+        chunkOrdinal = 0;
+    }
+
+    /**
+     * Ordinal of the next archetype chunk visited this tick.
+     */
+    int nextChunkOrdinal() {
+        return chunkOrdinal++;
+    }
+
+    /**
+     * Ref indices of the Peaceful Ring wearers in this world.
+     */
+    public IntOpenHashSet getPeacefulIndices() {
+        return peacefulIndices;
+    }
+
+    /**
+     * True if the entity at this ref index wears the Peaceful Ring.
+     */
+    public boolean isPeaceful(int refIndex) {
+        return refIndex >= 0 && peacefulBits.get(refIndex);
+    }
+
+    /**
+     * Rebuilds the wearer ref list if the world's ring holders changed since the
+     * last build (holders whose ref is not resolvable yet, mid world change, force
+     * a retry next tick), then re-derives the index set and bits from the refs.
+     * Called every tick by the Clock: O(peaceful wearers), no allocation.
+     */
+    void refresh(Store<EntityStore> store, RingHolderResource holders) {
+        if (holders != null && holders.getVersion() != builtVersion) {
+            rebuildRefs(store, holders);
+        }
+
+        peacefulIndices.clear();
+        peacefulBits.clear();
+        for (int i = 0; i < peacefulRefs.size(); i++) {
+            Ref<EntityStore> ref = peacefulRefs.get(i);
+            if (ref.isValid() && ref.getStore() == store) {
+                peacefulIndices.add(ref.getIndex());
+                peacefulBits.set(ref.getIndex());
+            }
+        }
+    }
+
+    private void rebuildRefs(Store<EntityStore> store, RingHolderResource holders) {
+        peacefulRefs.clear();
+        boolean complete = true;
+        for (Object2IntMap.Entry<UUID> entry : holders.getMasks().object2IntEntrySet()) {
+            if ((entry.getIntValue() & RingStateComponent.PEACEFUL) == 0)
+                continue;
+            PlayerRef playerRef = Universe.get().getPlayer(entry.getKey());
+            Ref<EntityStore> ref = (playerRef != null) ? playerRef.getReference() : null;
+            if (ref == null || !ref.isValid() || ref.getStore() != store) {
+                complete = false;
+                continue;
+            }
+            peacefulRefs.add(ref);
+        }
+        builtVersion = complete ? holders.getVersion() : -1;
+    }
+
+    @Override
+    public PeacefulWorldState clone() {
+        PeacefulWorldState copy = new PeacefulWorldState();
+        copy.tick = this.tick;
+        copy.peacefulRefs.addAll(this.peacefulRefs);
+        copy.peacefulIndices.addAll(this.peacefulIndices);
+        copy.peacefulBits.or(this.peacefulBits);
+        copy.builtVersion = this.builtVersion;
+        return copy;
+    }
+
+    // Static helper to get resource type (registered in IllegalRings)
+    private static ResourceType<EntityStore, PeacefulWorldState> type;
+
+    public static void setResourceType(ResourceType<EntityStore, PeacefulWorldState> type) {
+        PeacefulWorldState.type = type;
+    }
+
+    public static ResourceType<EntityStore, PeacefulWorldState> getResourceType() {
+        return type;
+    }
+}
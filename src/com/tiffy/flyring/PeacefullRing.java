@@ -1,5 +1,6 @@
 package com.tiffy.flyring;
 
+import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.events.entity.LivingEntityInventoryChangeEvent;
@@ -8,6 +9,7 @@ import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
 import com.hypixel.hytale.server.core.inventory.Inventory;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import java.util.UUID;
 import java.awt.Color;
@@ -26,6 +28,8 @@ public class PeacefullRing {
 
     private final JavaPlugin plugin;
     private final Set<UUID> peacefulPlayers = ConcurrentHashMap.newKeySet();
+    // Wearers whose equip purge has not run yet (no valid ref at the equip edge, e.g. on connect)
+    private final Set<UUID> purgePending = ConcurrentHashMap.newKeySet();
 
     public PeacefullRing(JavaPlugin plugin) {
         this.plugin = plugin;
@@ -39,6 +43,7 @@ public class PeacefullRing {
     public void onPlayerDisconnect(PlayerDisconnectEvent event) {
         if (event.getPlayerRef() != null) {
             peacefulPlayers.remove(event.getPlayerRef().getUuid());
+            purgePending.remove(event.getPlayerRef().getUuid());
         }
     }
 
@@ -56,13 +61,13 @@ public class PeacefullRing {
             return;
         }
         boolean hasRing = snapshot.hasPeaceful || snapshot.hasGaia;
+        RingStateComponent.update(player, RingStateComponent.PEACEFUL, hasRing);
 
         if (hasRing) {
             if (peacefulPlayers.add(uuid)) {
                 AnalyticsClient.reportRingState("PEACEFUL_RING", true);
                 // Check if Ring is disabled
-                if (ModConfig.getInstance() != null && ModConfig.getInstance().enabled != null
-                        && !ModConfig.getInstance().enabled.peacefulRing) {
+                if (!ModConfig.runtime().peacefulRing) {
                     player.sendMessage(com.hypixel.hytale.server.core.Message
                             .raw("[PeacefulRing] DISABLED by server").color(Color.RED));
                     return;
@@ -71,20 +76,43 @@ public class PeacefullRing {
                 player.sendMessage(com.hypixel.hytale.server.core.Message
                         .raw("[PeacefulRing] A soothing aura surrounds you... creatures will ignore you.")
                         .color(Color.ORANGE));
-                Log.info(plugin, "[PeacefullRing] " + RingUtils.getUsername(player) + " equipped peaceful ring");
+                purgePending.add(uuid);
+                Log.info(Log.Category.RINGS, () -> "[PeacefullRing] " + RingUtils.getUsername(player) + " equipped peaceful ring");
+            }
+            if (purgePending.contains(uuid) && purgeNearbyTargets(player)) {
+                purgePending.remove(uuid);
             }
         } else {
+            purgePending.remove(uuid);
             if (peacefulPlayers.remove(uuid)) {
                 AnalyticsClient.reportRingState("PEACEFUL_RING", false);
                 player.sendMessage(com.hypixel.hytale.server.core.Message
                         .raw("[PeacefulRing] The soothing aura fades. Monsters are aggressive again.")
                         .color(Color.ORANGE).color(Color.RED));
-                Log.info(plugin, "[PeacefullRing] " + RingUtils.getUsername(player) + " removed peaceful ring");
+                Log.info(Log.Category.RINGS, () -> "[PeacefullRing] " + RingUtils.getUsername(player) + " removed peaceful ring");
             }
         }
+    }
 
-        // Check Night Vision (Peaceful Ring + Torches)
-        RingUtils.checkNightVision(player);
+    /**
+     * Clears the player from nearby NPC target memories right away (once per equip).
+     * Returns false while the player has no valid ref yet, so the purge is retried
+     * on the next refresh (the world-thread one after the player is ready).
+     */
+    private boolean purgeNearbyTargets(Player player) {
+        try {
+            Ref<EntityStore> ref = player.getReference();
+            if (ref == null || !ref.isValid())
+                return false;
+            int cleared = PeacefulTargetClearSystem.purgeAround(ref, ref.getStore(),
+                    ModConfig.runtime().peacefulPurgeRadius);
+            if (cleared > 0) {
+                Log.debug(Log.Category.RINGS, () -> "[PeacefullRing] Cleared " + cleared + " nearby targets on equip");
+            }
+        } catch (Exception e) {
+            Log.info(plugin, "[PeacefullRing] Equip purge failed: " + e.getMessage());
+        }
+        return true;
     }
 
     public Set<UUID> getPeacefulPlayers() {
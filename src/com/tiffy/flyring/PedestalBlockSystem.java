@@ -14,6 +14,7 @@ import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.events.ecs.PlaceBlockEvent;
 import com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
@@ -85,7 +86,9 @@ public class PedestalBlockSystem {
                 String playerName = player != null ? RingUtils.getUsername(player) : "Unknown";
 
                 // Register the pedestal
-                PedestalRegistry.register(pos.x, pos.y, pos.z, playerUuid, playerName);
+                World world = store.getExternalData().getWorld();
+                String worldName = (world != null) ? world.getName() : null;
+                PedestalRegistry.register(pos.x, pos.y, pos.z, playerUuid, playerName, worldName);
 
                 boolean debug = ModConfig.getInstance() != null && ModConfig.getInstance().debugLogging;
                 if (debug) {
@@ -142,7 +145,7 @@ public class PedestalBlockSystem {
                     PedestalRegistry.unregister(pos.x, pos.y, pos.z);
 
                     // Also remove display entity if present
-                    PedestalDisplaySystem.queueDespawn(pos.x, pos.y, pos.z);
+                    PedestalDisplaySystem.queueDespawn(store, pos.x, pos.y, pos.z);
 
                     if (debug) {
                         Log.info(plugin, "[Pedestal] Unregistered at " + pos.x + "," + pos.y + "," + pos.z);
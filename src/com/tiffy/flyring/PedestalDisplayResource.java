@@ -0,0 +1,54 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.annotation.Nullable;
+
+/**
+ * PedestalDisplayResource - Per-world display entities above pedestals and the
+ * spawn/despawn ops waiting for PedestalDisplaySystem.
+ *
+ * Ops may be queued from any thread; the display map is only touched by the
+ * owning world's thread.
+ */
+public class PedestalDisplayResource implements Resource<EntityStore> {
+
+    final ConcurrentLinkedQueue<PedestalDisplaySystem.DisplayOp> pendingOps = new ConcurrentLinkedQueue<>();
+
+    // Active display entities of this world: "x,y,z" -> entity ref
+    final Map<String, Ref<EntityStore>> activeDisplays = new HashMap<>();
+
+    /**
+     * The display state of the given world, null if the store is gone or not set up yet.
+     */
+    @Nullable
+    static PedestalDisplayResource of(@Nullable Store<EntityStore> store) {
+        return (store != null && type != null) ? store.getResource(type) : null;
+    }
+
+    @Override
+    public PedestalDisplayResource clone() {
+        PedestalDisplayResource copy = new PedestalDisplayResource();
+        copy.pendingOps.addAll(this.pendingOps);
+        copy.activeDisplays.putAll(this.activeDisplays);
+        return copy;
+    }
+
+    // Static helper to get resource type (registered in IllegalRings)
+    private static ResourceType<EntityStore, PedestalDisplayResource> type;
+
+    public static void setResourceType(ResourceType<EntityStore, PedestalDisplayResource> type) {
+        PedestalDisplayResource.type = type;
+    }
+
+    public static ResourceType<EntityStore, PedestalDisplayResource> getResourceType() {
+        return type;
+    }
+}
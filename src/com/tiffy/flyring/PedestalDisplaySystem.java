@@ -1,27 +1,23 @@
 package com.tiffy.flyring;
 
 import com.hypixel.hytale.component.AddReason;
-import com.hypixel.hytale.component.ArchetypeChunk;
-import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentAccessor;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.RemoveReason;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.Holder;
-import com.hypixel.hytale.component.query.Query;
-import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3f;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.modules.entity.DespawnComponent;
 import com.hypixel.hytale.server.core.modules.entity.item.ItemComponent;
+import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * PedestalDisplaySystem - Spawns and manages display item entities above pedestals.
@@ -29,21 +25,13 @@ import java.util.concurrent.atomic.AtomicLong;
  * When a Ring_Display item is placed in a pedestal, this system spawns a
  * corresponding item entity floating above the pedestal block. When the
  * display item is removed, the entity is despawned.
+ * Runs once per world tick; ops and display refs live in the world's
+ * PedestalDisplayResource.
  */
-public class PedestalDisplaySystem extends EntityTickingSystem<EntityStore> {
+public class PedestalDisplaySystem extends TickingSystem<EntityStore> {
 
     private final IllegalRings plugin;
 
-    // Track active display entities: "x,y,z" -> entity ref
-    private static final Map<String, Ref<EntityStore>> activeDisplays = new ConcurrentHashMap<>();
-
-    // Pending spawn/despawn operations (thread-safe queue)
-    private static final ConcurrentLinkedQueue<DisplayOp> pendingOps = new ConcurrentLinkedQueue<>();
-
-    // Tick deduplication
-    private static final AtomicLong lastProcessedTick = new AtomicLong(-1);
-    private static long currentTick = 0;
-
     public static class DisplayOp {
         public enum Type { SPAWN, DESPAWN }
         public final Type type;
@@ -64,19 +52,25 @@ public class PedestalDisplaySystem extends EntityTickingSystem<EntityStore> {
     }
 
     /**
-     * Queue a display entity spawn above a pedestal.
+     * Queue a display entity spawn above a pedestal in the given world.
      * Safe to call from any thread.
      */
-    public static void queueSpawn(int x, int y, int z, String itemId) {
-        pendingOps.add(new DisplayOp(DisplayOp.Type.SPAWN, x, y, z, itemId));
+    public static void queueSpawn(Store<EntityStore> store, int x, int y, int z, String itemId) {
+        PedestalDisplayResource displays = PedestalDisplayResource.of(store);
+        if (displays != null) {
+            displays.pendingOps.add(new DisplayOp(DisplayOp.Type.SPAWN, x, y, z, itemId));
+        }
     }
 
     /**
-     * Queue removal of a display entity above a pedestal.
+     * Queue removal of a display entity above a pedestal in the given world.
      * Safe to call from any thread.
      */
-    public static void queueDespawn(int x, int y, int z) {
-        pendingOps.add(new DisplayOp(DisplayOp.Type.DESPAWN, x, y, z, null));
+    public static void queueDespawn(Store<EntityStore> store, int x, int y, int z) {
+        PedestalDisplayResource displays = PedestalDisplayResource.of(store);
+        if (displays != null) {
+            displays.pendingOps.add(new DisplayOp(DisplayOp.Type.DESPAWN, x, y, z, null));
+        }
     }
 
     private static String posKey(int x, int y, int z) {
@@ -84,36 +78,37 @@ public class PedestalDisplaySystem extends EntityTickingSystem<EntityStore> {
     }
 
     @Override
-    @Nonnull
-    public Query<EntityStore> getQuery() {
-        return Query.any();
-    }
+    public void tick(float delta, int systemIndex, @Nonnull Store<EntityStore> store) {
+        PedestalDisplayResource displays = store.getResource(PedestalDisplayResource.getResourceType());
+        if (displays == null || displays.pendingOps.isEmpty()) return;
 
-    @Override
-    public void tick(float delta, int index, @Nonnull ArchetypeChunk<EntityStore> chunk,
-                     @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> buffer) {
-        currentTick++;
-        long last = lastProcessedTick.get();
-        if (last >= currentTick) return;
-        if (!lastProcessedTick.compareAndSet(last, currentTick)) return;
-
-        if (pendingOps.isEmpty()) return;
+        World world = store.getExternalData().getWorld();
+        if (world == null) return;
 
+        // Spawning/removing is structural: apply this tick's ops in one world.execute batch
+        List<DisplayOp> batch = new ArrayList<>();
         DisplayOp op;
-        while ((op = pendingOps.poll()) != null) {
+        while ((op = displays.pendingOps.poll()) != null) {
+            batch.add(op);
+        }
+        world.execute(() -> applyOps(batch, displays, store));
+    }
+
+    private void applyOps(List<DisplayOp> batch, PedestalDisplayResource displays, Store<EntityStore> store) {
+        for (DisplayOp op : batch) {
             String key = posKey(op.x, op.y, op.z);
 
             if (op.type == DisplayOp.Type.SPAWN) {
                 // Don't double-spawn
-                Ref<EntityStore> existing = activeDisplays.get(key);
+                Ref<EntityStore> existing = displays.activeDisplays.get(key);
                 if (existing != null && existing.isValid()) continue;
 
-                spawnDisplay(op, store, buffer, key);
+                spawnDisplay(op, store, displays, key);
             } else {
                 // DESPAWN
-                Ref<EntityStore> ref = activeDisplays.remove(key);
+                Ref<EntityStore> ref = displays.activeDisplays.remove(key);
                 if (ref != null && ref.isValid()) {
-                    buffer.removeEntity(ref, RemoveReason.REMOVE);
+                    store.removeEntity(ref, RemoveReason.REMOVE);
                     boolean debug = ModConfig.getInstance() != null && ModConfig.getInstance().debugLogging;
                     if (debug) {
                         Log.info(plugin, "[PedestalDisplay] Removed display at " + key);
@@ -124,7 +119,7 @@ public class PedestalDisplaySystem extends EntityTickingSystem<EntityStore> {
     }
 
     private void spawnDisplay(DisplayOp op, Store<EntityStore> store,
-                              CommandBuffer<EntityStore> buffer, String key) {
+                              PedestalDisplayResource displays, String key) {
         try {
             ItemStack stack = new ItemStack(op.itemId, 1);
 
@@ -149,8 +144,8 @@ public class PedestalDisplaySystem extends EntityTickingSystem<EntityStore> {
             holder.removeComponent(DespawnComponent.getComponentType());
 
             // Add to world and track the ref
-            Ref<EntityStore> ref = buffer.addEntity(holder, AddReason.SPAWN);
-            activeDisplays.put(key, ref);
+            Ref<EntityStore> ref = store.addEntity(holder, AddReason.SPAWN);
+            displays.activeDisplays.put(key, ref);
 
             boolean debug = ModConfig.getInstance() != null && ModConfig.getInstance().debugLogging;
             if (debug) {
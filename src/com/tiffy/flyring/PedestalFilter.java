@@ -1,5 +1,6 @@
 package com.tiffy.flyring;
 
+import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.entity.entities.player.windows.ContainerBlockWindow;
 import com.hypixel.hytale.server.core.entity.entities.player.windows.ItemContainerWindow;
@@ -11,6 +12,7 @@ import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.math.vector.Vector3i;
 import com.hypixel.hytale.math.util.ChunkUtil;
@@ -30,16 +32,6 @@ import java.util.UUID;
  */
 public class PedestalFilter {
 
-    private static final Set<String> ALLOWED_ITEMS = Set.of(
-        "Jewelry_Fly_Ring",
-        "Jewelry_Fire_Ring",
-        "Jewelry_Water_Ring",
-        "Jewelry_Heal_Ring",
-        "Jewelry_Peacefull_Ring",
-        "Jewelry_Gaia_Medallion",
-        "Ring_Display_Fly"
-    );
-
     private static final Set<String> DISPLAY_ITEMS = Set.of(
         "Jewelry_Fly_Ring",
         "Jewelry_Fire_Ring",
@@ -86,7 +78,7 @@ public class PedestalFilter {
                 // Validation: reject non-allowed items
                 if (stack != null && !stack.isEmpty()) {
                     String itemId = stack.getItemId();
-                    if (itemId != null && !ALLOWED_ITEMS.contains(itemId)) {
+                    if (itemId != null && (RingItemRegistry.flagsOf(itemId) & RingItemRegistry.PEDESTAL_ALLOWED) == 0) {
                         container.removeItemStackFromSlot((short) 0);
                         player.getInventory().getHotbar().addItemStack(stack);
                         Log.info(plugin, "[Pedestal] Rejected '" + itemId + "' - returned to " + RingUtils.getUsername(player));
@@ -101,6 +93,11 @@ public class PedestalFilter {
                     // CSV Update - always
                     String itemId = (stack != null && !stack.isEmpty()) ? stack.getItemId() : "";
                     PedestalRegistry.setItem(bx, by, bz, itemId);
+                    // Record the pedestal's world (claims rows loaded without one)
+                    World pedestalWorld = player.getWorld();
+                    if (pedestalWorld != null) {
+                        PedestalRegistry.setWorld(bx, by, bz, pedestalWorld.getName());
+                    }
 
                     // Sofort Textur setzen basierend auf CSV Item-State (Trigger: on/off)
                     setPedestalTexture(player, bx, by, bz, !itemId.isEmpty());
@@ -113,7 +110,7 @@ public class PedestalFilter {
 
                     // Queue texture update with delay (reads from CSV when applied)
                     // Delay of 20 ticks (1 second) ensures CloseWindow state doesn't override
-                    LootDropTickSystem.queueTextureUpdate(bx, by, bz, 20);
+                    LootDropTickSystem.queueTextureUpdate(worldStore(player), bx, by, bz, 20);
 
                     // Multiblock validation when ring is placed
                     if (!itemId.isEmpty() && RING_NAMES.containsKey(itemId)) {
@@ -168,9 +165,9 @@ public class PedestalFilter {
 
                     // Display entity - DISABLED
                     // if (stack != null && !stack.isEmpty() && DISPLAY_ITEMS.contains(stack.getItemId())) {
-                    //     PedestalDisplaySystem.queueSpawn(bx, by, bz, stack.getItemId());
+                    //     PedestalDisplaySystem.queueSpawn(worldStore(player), bx, by, bz, stack.getItemId());
                     // } else {
-                    //     PedestalDisplaySystem.queueDespawn(bx, by, bz);
+                    //     PedestalDisplaySystem.queueDespawn(worldStore(player), bx, by, bz);
                     // }
                 }
             }
@@ -179,6 +176,14 @@ public class PedestalFilter {
         }
     }
 
+    /**
+     * Entity store of the player's world (where the pedestal is), null if the player has no world.
+     */
+    private static Store<EntityStore> worldStore(Player player) {
+        World world = player.getWorld();
+        return (world != null) ? world.getEntityStore().getStore() : null;
+    }
+
     /**
      * Sends the epic activation message when a ring is successfully bound.
      * Shows screen banner and plays discovery sound.
@@ -191,7 +196,7 @@ public class PedestalFilter {
         // Queue the altar activation sound to be played on world thread
         PlayerRef playerRef = player.getPlayerRef();
         if (playerRef != null) {
-            LootDropTickSystem.queueAltarSound(playerRef, altarType, bx + 0.5, by + 1.0, bz + 0.5);
+            LootDropTickSystem.queueAltarSound(worldStore(player), playerRef, altarType, bx + 0.5, by + 1.0, bz + 0.5);
         }
 
         // Debug: chat message for testing (only when debugLogging enabled)
@@ -3,12 +3,14 @@ package com.tiffy.flyring;
 import java.io.*;
 import java.nio.file.Files;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * PedestalRegistry - Persists pedestal ownership to CSV file.
@@ -16,17 +18,31 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * Tracks which player placed which pedestal at what coordinates.
  * Data is stored in: mods/tiffy-illegalrings/pedestals.csv
  *
- * CSV Format: x,y,z,ownerUuid,ownerName,item,placed
+ * CSV Format: ownerName,ownerUuid,x,y,z,item,placed,verified,world
+ * (world is empty for rows written before it was recorded; such pedestals are
+ * assigned to the first world that finds their altar block, see setWorld)
  */
 public class PedestalRegistry {
 
     private static final String DATA_DIR = "mods/tiffy-illegalrings";
     private static final String FILE_NAME = "pedestals.csv";
-    private static final String CSV_HEADER = "ownerName,ownerUuid,x,y,z,item,placed,verified";
+    private static final String CSV_HEADER = "ownerName,ownerUuid,x,y,z,item,placed,verified,world";
+
+    /** World name of pedestals whose world is not known yet. */
+    public static final String UNKNOWN_WORLD = "";
 
     // In-memory cache: "x,y,z" -> PedestalData
     private static final Map<String, PedestalData> pedestals = new ConcurrentHashMap<>();
 
+    // Secondary index: owner -> position keys of their pedestals
+    private static final Map<UUID, Set<String>> byOwner = new ConcurrentHashMap<>();
+
+    // Secondary index: world name -> position keys of the pedestals in that world
+    private static final Map<String, Set<String>> byWorld = new ConcurrentHashMap<>();
+
+    // Cached verified ring mask per owner (RingUtils.RING_* bits), invalidated on any change
+    private static final Map<UUID, Integer> ownerRingMasks = new ConcurrentHashMap<>();
+
     // Dirty flag for debounced saving
     private static final AtomicBoolean dirty = new AtomicBoolean(false);
 
@@ -43,10 +59,11 @@ public class PedestalRegistry {
         public String item;       // Item ID in pedestal (or empty if none)
         public long placed;       // Timestamp when placed
         public boolean verified;  // True if multiblock structure is complete
+        public String world = UNKNOWN_WORLD; // Name of the world the pedestal is in
 
         public PedestalData() {}
 
-        public PedestalData(int x, int y, int z, UUID owner, String ownerName, long placed) {
+        public PedestalData(int x, int y, int z, UUID owner, String ownerName, String world, long placed) {
             this.x = x;
             this.y = y;
             this.z = z;
@@ -55,13 +72,16 @@ public class PedestalRegistry {
             this.item = "";
             this.placed = placed;
             this.verified = false;
+            this.world = world != null ? world : UNKNOWN_WORLD;
         }
 
         public String toCsv() {
             // Escape commas in ownerName if present
             String safeName = ownerName != null ? ownerName.replace(",", ";") : "";
             String safeItem = item != null ? item : "";
-            return safeName + "," + ownerUuid + "," + x + "," + y + "," + z + "," + safeItem + "," + placed + "," + verified;
+            String safeWorld = world != null ? world.replace(",", ";") : UNKNOWN_WORLD;
+            return safeName + "," + ownerUuid + "," + x + "," + y + "," + z + "," + safeItem + "," + placed + "," + verified
+                + "," + safeWorld;
         }
 
         public static PedestalData fromCsv(String line) {
@@ -79,6 +99,8 @@ public class PedestalRegistry {
                 data.placed = Long.parseLong(parts[6].trim());
                 // Handle verified field (optional for backwards compatibility)
                 data.verified = parts.length > 7 && Boolean.parseBoolean(parts[7].trim());
+                // World field is optional too (older files)
+                data.world = parts.length > 8 ? parts[8].trim() : UNKNOWN_WORLD;
                 return data;
             } catch (Exception e) {
                 return null;
@@ -115,7 +137,9 @@ public class PedestalRegistry {
 
                         PedestalData data = PedestalData.fromCsv(line);
                         if (data != null) {
-                            pedestals.put(posKey(data.x, data.y, data.z), data);
+                            String key = posKey(data.x, data.y, data.z);
+                            unindex(key, pedestals.put(key, data));
+                            index(key, data);
                         }
                     }
                 }
@@ -150,12 +174,13 @@ public class PedestalRegistry {
     }
 
     /**
-     * Register a pedestal placement.
+     * Register a pedestal placement in the named world.
      */
-    public static void register(int x, int y, int z, UUID ownerUuid, String ownerName) {
+    public static void register(int x, int y, int z, UUID ownerUuid, String ownerName, String world) {
         String key = posKey(x, y, z);
-        PedestalData data = new PedestalData(x, y, z, ownerUuid, ownerName, System.currentTimeMillis());
-        pedestals.put(key, data);
+        PedestalData data = new PedestalData(x, y, z, ownerUuid, ownerName, world, System.currentTimeMillis());
+        unindex(key, pedestals.put(key, data));
+        index(key, data);
         markDirty();
     }
 
@@ -164,7 +189,9 @@ public class PedestalRegistry {
      */
     public static void unregister(int x, int y, int z) {
         String key = posKey(x, y, z);
-        if (pedestals.remove(key) != null) {
+        PedestalData removed = pedestals.remove(key);
+        if (removed != null) {
+            unindex(key, removed);
             markDirty();
         }
     }
@@ -177,6 +204,7 @@ public class PedestalRegistry {
         PedestalData data = pedestals.get(key);
         if (data != null) {
             data.item = itemId != null ? itemId : "";
+            invalidateOwner(data);
             markDirty();
         }
     }
@@ -189,6 +217,21 @@ public class PedestalRegistry {
         PedestalData data = pedestals.get(key);
         if (data != null) {
             data.verified = verified;
+            invalidateOwner(data);
+            markDirty();
+        }
+    }
+
+    /**
+     * Record the world of a pedestal (used to assign pedestals loaded without one).
+     */
+    public static void setWorld(int x, int y, int z, String world) {
+        String key = posKey(x, y, z);
+        PedestalData data = pedestals.get(key);
+        if (data != null && world != null && !world.equals(data.world)) {
+            unindexWorld(key, data);
+            data.world = world;
+            indexWorld(key, data);
             markDirty();
         }
     }
@@ -245,6 +288,90 @@ public class PedestalRegistry {
         return new ConcurrentHashMap<>(pedestals);
     }
 
+    /**
+     * Runs the action for every pedestal recorded in the named world
+     * (UNKNOWN_WORLD for pedestals without one). No copy of the registry is made.
+     */
+    public static void forEachInWorld(String world, Consumer<PedestalData> action) {
+        Set<String> keys = byWorld.get(world != null ? world : UNKNOWN_WORLD);
+        if (keys == null) return;
+        for (String key : keys) {
+            PedestalData data = pedestals.get(key);
+            if (data != null) {
+                action.accept(data);
+            }
+        }
+    }
+
+    /**
+     * Combined ring bits (RingUtils.RING_*) of all verified, filled pedestals
+     * owned by a player. Cached per owner; O(1) unless a pedestal changed.
+     */
+    public static int getVerifiedRingMask(UUID ownerUuid) {
+        if (ownerUuid == null) return 0;
+        Set<String> keys = byOwner.get(ownerUuid);
+        if (keys == null || keys.isEmpty()) return 0;
+        return ownerRingMasks.computeIfAbsent(ownerUuid, k -> computeRingMask(keys));
+    }
+
+    private static int computeRingMask(Set<String> keys) {
+        int mask = 0;
+        for (String key : keys) {
+            PedestalData data = pedestals.get(key);
+            if (data == null || !data.verified || data.item == null || data.item.isEmpty()) continue;
+            mask |= RingItemRegistry.flagsOf(data.item);
+        }
+        return mask & RingItemRegistry.RING_BITS;
+    }
+
+    private static void index(String key, PedestalData data) {
+        indexWorld(key, data);
+        UUID owner = parseOwner(data);
+        if (owner == null) return;
+        byOwner.computeIfAbsent(owner, k -> ConcurrentHashMap.newKeySet()).add(key);
+        ownerRingMasks.remove(owner);
+    }
+
+    private static void unindex(String key, PedestalData data) {
+        if (data == null) return;
+        unindexWorld(key, data);
+        UUID owner = parseOwner(data);
+        if (owner == null) return;
+        Set<String> keys = byOwner.get(owner);
+        if (keys != null) {
+            keys.remove(key);
+        }
+        ownerRingMasks.remove(owner);
+    }
+
+    private static void indexWorld(String key, PedestalData data) {
+        String world = data.world != null ? data.world : UNKNOWN_WORLD;
+        byWorld.computeIfAbsent(world, k -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    private static void unindexWorld(String key, PedestalData data) {
+        Set<String> keys = byWorld.get(data.world != null ? data.world : UNKNOWN_WORLD);
+        if (keys != null) {
+            keys.remove(key);
+        }
+    }
+
+    private static void invalidateOwner(PedestalData data) {
+        UUID owner = parseOwner(data);
+        if (owner != null) {
+            ownerRingMasks.remove(owner);
+        }
+    }
+
+    private static UUID parseOwner(PedestalData data) {
+        if (data == null || data.ownerUuid == null || data.ownerUuid.isEmpty()) return null;
+        try {
+            return UUID.fromString(data.ownerUuid);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     /**
      * Get count of registered pedestals.
      */
@@ -0,0 +1,20 @@
+package com.tiffy.flyring;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * PetpieceLoot - Petpiece scroll drops from ALL NPC kills.
+ *
+ * Subscribed to NpcKillSystem; always active, independent of the loot config.
+ */
+public class PetpieceLoot {
+
+    private static final String PETPIECE_ITEM = "Scroll_DeWateil";
+    private static final double PETPIECE_DROP_CHANCE = 0.05; // 5%
+
+    public static void onKill(NpcKillSystem.KillRecord kill) {
+        if (ThreadLocalRandom.current().nextDouble() < PETPIECE_DROP_CHANCE) {
+            LootDropTickSystem.queueDrop(kill.store, PETPIECE_ITEM, 1, kill.position, kill.killerRef, false);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.builtin.npccombatactionevaluator.memory.TargetMemory;
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.SystemGroup;
+import com.hypixel.hytale.component.dependency.Dependency;
+import com.hypixel.hytale.component.dependency.Order;
+import com.hypixel.hytale.component.dependency.SystemDependency;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageEventSystem;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageModule;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * RingAttackerSystem - BloodSuck (Lifesteal) and Peaceful target clearing for
+ * ring-wearing attackers. Lifesteal is accumulated in LifestealResource and
+ * applied by LifestealSystem at most once per attacker per tick.
+ *
+ * Victims are anything with stats; the per-world holder resource lets the
+ * stage bail out before touching the attacker when nobody wears Heal/Peaceful.
+ */
+public class RingAttackerSystem extends DamageEventSystem {
+
+    private final IllegalRings plugin;
+
+    public RingAttackerSystem(IllegalRings plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    @Nonnull
+    public Query<EntityStore> getQuery() {
+        return Query.and(EntityStatMap.getComponentType());
+    }
+
+    /**
+     * Runs after RingImmunitySystem so hits an immunity cancels never heal or clear targets.
+     */
+    @Override
+    @Nonnull
+    public Set<Dependency<EntityStore>> getDependencies() {
+        return Set.of(new SystemDependency<>(Order.AFTER, RingImmunitySystem.class));
+    }
+
+    @Override
+    @Nullable
+    public SystemGroup<EntityStore> getGroup() {
+        DamageModule module = DamageModule.get();
+        return (module != null) ? module.getFilterDamageGroup() : null;
+    }
+
+    @Override
+    public void handle(int index, @Nonnull ArchetypeChunk<EntityStore> chunk, @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> buffer, @Nonnull Damage event) {
+        long start = System.nanoTime();
+        try {
+            RuntimeConfig rc = ModConfig.runtime();
+            if (!rc.attackerEffects || (!rc.healRing && !rc.peacefulRing) || event.isCancelled())
+                return;
+
+            // World-local fast exit: nobody in this world wears an attacker ring
+            RingHolderResource holders = store.getResource(RingHolderResource.getResourceType());
+            if (holders != null && !holders.hasAny(RingStateComponent.HEAL)
+                    && !holders.hasAny(RingStateComponent.PEACEFUL)) {
+                return;
+            }
+
+            if (!(event.getSource() instanceof Damage.EntitySource entitySource))
+                return;
+            Ref<EntityStore> attackerRef = entitySource.getRef();
+            if (attackerRef == null || !attackerRef.isValid())
+                return;
+
+            RingStateComponent attackerState = store.getComponent(attackerRef, RingStateComponent.getComponentType());
+            if (attackerState == null)
+                return;
+
+            // BloodSuck: heal the attacker based on damage dealt
+            if (rc.healRing && attackerState.has(RingStateComponent.HEAL)) {
+                applyBloodSuckEffect(attackerRef, store, event, rc);
+            }
+
+            // Peaceful: clear the victim's target so it doesn't retaliate
+            if (attackerState.has(RingStateComponent.PEACEFUL)) {
+                TargetMemory targetMemory = (TargetMemory) store.getComponent(chunk.getReferenceTo(index),
+                        TargetMemory.getComponentType());
+                if (targetMemory != null) {
+                    // Clear them from known hostiles
+                    if (targetMemory.getKnownHostiles() != null) {
+                        targetMemory.getKnownHostiles().remove(attackerRef.getIndex());
+                    }
+                    // Clear as primary/closest target
+                    if (attackerRef.equals(targetMemory.getClosestHostile())) {
+                        targetMemory.setClosestHostile(null);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            Log.info(plugin, "[RingDebug] Error: " + e.getMessage());
+        } finally {
+            DamageMetrics.recordEvent(DamageMetrics.STAGE_ATTACKER, start);
+        }
+    }
+
+    /**
+     * Queues this hit's heal; LifestealSystem applies the per-attacker sum once per tick.
+     */
+    private void applyBloodSuckEffect(Ref<EntityStore> attackerRef, Store<EntityStore> store, Damage event,
+            RuntimeConfig rc) {
+        float damageDealt = event.getAmount();
+        if (damageDealt <= 0)
+            return;
+
+        LifestealResource pending = store.getResource(LifestealResource.getResourceType());
+        if (pending == null)
+            return;
+
+        float healAmount = damageDealt * rc.lifestealPercent;
+        pending.add(attackerRef, healAmount);
+        DamageMetrics.recordLifestealHit();
+
+        Log.debug(Log.Category.LIFESTEAL, () -> RingUtils.getUUID(attackerRef, store) + " dealt "
+                + damageDealt + " dmg and sucked " + healAmount + " HP");
+    }
+}
@@ -0,0 +1,99 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.UUID;
+
+/**
+ * RingHolderResource - Per-world registry of the ring holders in that world.
+ *
+ * One instance lives in each world's entity store and is only touched by that
+ * world's thread. Lets the damage and attitude paths bail out early when nobody
+ * in the current world wears the relevant ring, without looking at other worlds.
+ */
+public class RingHolderResource implements Resource<EntityStore> {
+
+    private static final int BIT_COUNT = 6;
+
+    private final Object2IntOpenHashMap<UUID> masks = new Object2IntOpenHashMap<>();
+    private final int[] holdersPerBit = new int[BIT_COUNT];
+    // Bumped on every change; lets derived per-world state rebuild lazily
+    private int version;
+
+    /**
+     * Sets a player's ring mask (RingStateComponent bits) in this world.
+     */
+    public void set(UUID uuid, int mask) {
+        if (uuid == null)
+            return;
+        int previous = (mask != 0) ? masks.put(uuid, mask) : masks.removeInt(uuid);
+        adjust(previous, -1);
+        adjust(mask, 1);
+        version++;
+    }
+
+    public void remove(UUID uuid) {
+        if (uuid != null && masks.containsKey(uuid)) {
+            adjust(masks.removeInt(uuid), -1);
+            version++;
+        }
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * All holders in this world with their masks (read-only use).
+     */
+    Object2IntMap<UUID> getMasks() {
+        return masks;
+    }
+
+    public int getMask(UUID uuid) {
+        return masks.getInt(uuid);
+    }
+
+    /**
+     * True if at least one player in this world has the given ring bit.
+     */
+    public boolean hasAny(int bit) {
+        return holdersPerBit[Integer.numberOfTrailingZeros(bit)] > 0;
+    }
+
+    public boolean isEmpty() {
+        return masks.isEmpty();
+    }
+
+    private void adjust(int mask, int delta) {
+        for (int i = 0; i < BIT_COUNT; i++) {
+            if ((mask & (1 << i)) != 0) {
+                holdersPerBit[i] += delta;
+            }
+        }
+    }
+
+    @Override
+    public RingHolderResource clone() {
+        RingHolderResource copy = new RingHolderResource();
+        copy.masks.putAll(this.masks);
+        System.arraycopy(this.holdersPerBit, 0, copy.holdersPerBit, 0, BIT_COUNT);
+        copy.version = this.version;
+        return copy;
+    }
+
+    // Static helper to get resource type (registered in IllegalRings)
+    private static ResourceType<EntityStore, RingHolderResource> type;
+
+    public static void setResourceType(ResourceType<EntityStore, RingHolderResource> type) {
+        RingHolderResource.type = type;
+    }
+
+    public static ResourceType<EntityStore, RingHolderResource> getResourceType() {
+        return type;
+    }
+}
@@ -0,0 +1,111 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.SystemGroup;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageCause;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageEventSystem;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageModule;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * RingImmunitySystem - Elemental, fall and peaceful immunities for ring-wearing players.
+ *
+ * Only matches players with a RingStateComponent, so NPC and other damage
+ * events never reach this stage.
+ */
+public class RingImmunitySystem extends DamageEventSystem {
+
+    private final IllegalRings plugin;
+
+    public RingImmunitySystem(IllegalRings plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    @Nonnull
+    public Query<EntityStore> getQuery() {
+        return Query.and(Player.getComponentType(), RingStateComponent.getComponentType());
+    }
+
+    @Override
+    @Nullable
+    public SystemGroup<EntityStore> getGroup() {
+        DamageModule module = DamageModule.get();
+        return (module != null) ? module.getFilterDamageGroup() : null;
+    }
+
+    @Override
+    public void handle(int index, @Nonnull ArchetypeChunk<EntityStore> chunk, @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> buffer, @Nonnull Damage event) {
+        long start = System.nanoTime();
+        try {
+            // One stable config snapshot for the whole event
+            RuntimeConfig rc = ModConfig.runtime();
+            if (!rc.playerImmunities || !rc.anyRingEnabled || event.isCancelled())
+                return;
+
+            RingStateComponent victimState = chunk.getComponent(index, RingStateComponent.getComponentType());
+            int victimRings = (victimState != null) ? victimState.getMask() : 0;
+            if (victimRings == 0)
+                return;
+
+            int causeCategories = DamageCauseTable.categoriesOf(event);
+            Ref<EntityStore> victimRef = chunk.getReferenceTo(index);
+
+            // Fire Ring Immunity (Fire, Lava, Burn, etc.)
+            if (rc.fireRing && (victimRings & RingStateComponent.FIRE) != 0
+                    && (causeCategories & DamageCauseTable.FIRE) != 0) {
+                cancelDamage(event, "Fire", RingStateComponent.FIRE, causeCategories, victimRef, store);
+                return;
+            }
+
+            // Water Ring Immunity (Drowning)
+            if (rc.waterRing && (victimRings & RingStateComponent.WATER) != 0
+                    && (causeCategories & DamageCauseTable.WATER) != 0) {
+                cancelDamage(event, "Water", RingStateComponent.WATER, causeCategories, victimRef, store);
+                return;
+            }
+
+            // Fly Ring Immunity (Fall Damage)
+            if (rc.flyRing && (victimRings & RingStateComponent.FLY) != 0
+                    && (causeCategories & DamageCauseTable.FALL) != 0) {
+                cancelDamage(event, "Fly", RingStateComponent.FLY, causeCategories, victimRef, store);
+                return;
+            }
+
+            // Peaceful Ring: cancel damage from NPC sources
+            if (rc.peacefulRing && (victimRings & RingStateComponent.PEACEFUL) != 0
+                    && event.getSource() instanceof Damage.EntitySource entitySource) {
+                Ref<EntityStore> attackerRef = entitySource.getRef();
+                // Approximate check: NPC attackers have no Player component
+                if (attackerRef != null && attackerRef.isValid()
+                        && store.getComponent(attackerRef, Player.getComponentType()) == null) {
+                    cancelDamage(event, "Peaceful", RingStateComponent.PEACEFUL, causeCategories, victimRef, store);
+                }
+            }
+        } catch (Exception e) {
+            Log.info(plugin, "[RingDebug] Error: " + e.getMessage());
+        } finally {
+            DamageMetrics.recordEvent(DamageMetrics.STAGE_IMMUNITY, start);
+        }
+    }
+
+    private void cancelDamage(Damage event, String ringType, int ringBit, int causeCategories,
+            Ref<EntityStore> victimRef, Store<EntityStore> store) {
+        DamageMetrics.recordBlocked(ringBit, causeCategories);
+        DamageCause cause = event.getCause();
+        Log.debug(Log.Category.DAMAGE, () -> ringType + " Ring blocked "
+                + (cause != null ? cause.getId() : "unknown") + " for " + RingUtils.getUUID(victimRef, store));
+        event.setAmount(0.0f);
+        event.setCancelled(true);
+    }
+}
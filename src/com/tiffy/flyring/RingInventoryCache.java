@@ -0,0 +1,211 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RingInventoryCache - Per-player ring bitmask kept up to date from inventory
+ * change events.
+ *
+ * Every tracked container (hotbar, storage, backpack, armor, utility) keeps its
+ * own mask. A change event only rescans the container that fired it. The full
+ * inventory is reconciled on connect, or when drift is detected (inventory or
+ * container replaced, trigger item changed, backpack setting toggled, or an
+ * event for a container we don't know).
+ */
+public class RingInventoryCache {
+
+    private static final int HOTBAR = 0;
+    private static final int STORAGE = 1;
+    private static final int BACKPACK = 2;
+    private static final int ARMOR = 3;
+    private static final int UTILITY = 4;
+    private static final int CONTAINER_COUNT = 5;
+
+    private static final Map<UUID, PlayerRings> players = new ConcurrentHashMap<>();
+
+    /**
+     * Cached state for one player. All access is synchronized on the instance.
+     */
+    private static class PlayerRings {
+        Inventory inventory;
+        final ItemContainer[] containers = new ItemContainer[CONTAINER_COUNT];
+        final int[] masks = new int[CONTAINER_COUNT];
+        String triggerId;
+        boolean backpackEnabled;
+        int combined;
+
+        void recombine() {
+            int mask = 0;
+            for (int i = 0; i < CONTAINER_COUNT; i++) {
+                if (i == BACKPACK && !backpackEnabled)
+                    continue;
+                mask |= masks[i];
+            }
+            combined = mask;
+        }
+    }
+
+    /**
+     * Returns the cached inventory mask for a player (RingUtils.RING_* bits).
+     * Reconciles first if the cache is missing or has drifted.
+     */
+    public static int getMask(Player player, UUID uuid) {
+        if (player == null || uuid == null)
+            return 0;
+
+        PlayerRings state = players.get(uuid);
+        if (state == null) {
+            return reconcile(player, uuid);
+        }
+
+        synchronized (state) {
+            if (!hasDrifted(state, player, uuid)) {
+                return state.combined;
+            }
+        }
+        return reconcile(player, uuid);
+    }
+
+    /**
+     * Called from the inventory change event. Only rescans the container that
+     * changed; anything unexpected triggers a full reconcile.
+     */
+    public static void onContainerChanged(Player player, ItemContainer changed) {
+        if (player == null)
+            return;
+        UUID uuid = RingUtils.getUUID(player);
+        if (uuid == null)
+            return;
+
+        PlayerRings state = players.get(uuid);
+        if (state == null || changed == null) {
+            reconcile(player, uuid);
+            return;
+        }
+
+        synchronized (state) {
+            if (!hasDrifted(state, player, uuid)) {
+                for (int i = 0; i < CONTAINER_COUNT; i++) {
+                    if (state.containers[i] == changed) {
+                        state.masks[i] = scanContainer(changed);
+                        state.recombine();
+                        return;
+                    }
+                }
+            }
+        }
+
+        // Unknown container or drift - fall back to a full scan
+        reconcile(player, uuid);
+    }
+
+    /**
+     * Full rescan of all containers. Used on connect and when drift is detected.
+     */
+    public static int reconcile(Player player, UUID uuid) {
+        if (player == null || uuid == null)
+            return 0;
+
+        Inventory inv = player.getInventory();
+        if (inv == null) {
+            players.remove(uuid);
+            return 0;
+        }
+
+        PlayerRings state = players.computeIfAbsent(uuid, k -> new PlayerRings());
+        synchronized (state) {
+            state.inventory = inv;
+            state.triggerId = RingUtils.getTriggerItemId();
+            RingItemRegistry.syncTrigger(state.triggerId);
+            state.backpackEnabled = PlayerSettings.isBackpackEnabled(uuid);
+
+            ItemContainer[] current = resolveContainers(inv);
+            for (int i = 0; i < CONTAINER_COUNT; i++) {
+                state.containers[i] = current[i];
+                state.masks[i] = scanContainer(current[i]);
+            }
+            state.recombine();
+            return state.combined;
+        }
+    }
+
+    /**
+     * Drop cached state (on disconnect).
+     */
+    public static void forget(UUID uuid) {
+        if (uuid != null) {
+            players.remove(uuid);
+        }
+    }
+
+    /**
+     * Uncached scan of an inventory, used when the player has no UUID yet.
+     */
+    static int scanInventory(Inventory inv, boolean includeBackpack) {
+        if (inv == null)
+            return 0;
+        RingItemRegistry.syncTrigger(RingUtils.getTriggerItemId());
+        ItemContainer[] containers = resolveContainers(inv);
+        int mask = 0;
+        for (int i = 0; i < CONTAINER_COUNT; i++) {
+            if (i == BACKPACK && !includeBackpack)
+                continue;
+            mask |= scanContainer(containers[i]);
+        }
+        return mask;
+    }
+
+    private static boolean hasDrifted(PlayerRings state, Player player, UUID uuid) {
+        Inventory inv = player.getInventory();
+        if (inv == null || inv != state.inventory)
+            return true;
+        if (state.backpackEnabled != PlayerSettings.isBackpackEnabled(uuid))
+            return true;
+        String triggerId = RingUtils.getTriggerItemId();
+        if (triggerId == null ? state.triggerId != null : !triggerId.equals(state.triggerId))
+            return true;
+
+        ItemContainer[] current = resolveContainers(inv);
+        for (int i = 0; i < CONTAINER_COUNT; i++) {
+            if (current[i] != state.containers[i])
+                return true;
+        }
+        return false;
+    }
+
+    private static ItemContainer[] resolveContainers(Inventory inv) {
+        ItemContainer[] containers = new ItemContainer[CONTAINER_COUNT];
+        containers[HOTBAR] = inv.getHotbar();
+        containers[STORAGE] = inv.getStorage();
+        containers[BACKPACK] = inv.getBackpack();
+        try {
+            containers[ARMOR] = inv.getArmor();
+        } catch (Throwable ignored) {
+        }
+        try {
+            containers[UTILITY] = inv.getUtility();
+        } catch (Throwable ignored) {
+        }
+        return containers;
+    }
+
+    private static final int SCAN_BITS = RingItemRegistry.RING_BITS | RingItemRegistry.TRIGGER;
+
+    private static int scanContainer(ItemContainer container) {
+        if (container == null)
+            return 0;
+
+        int mask = 0;
+        short capacity = container.getCapacity();
+        for (short i = 0; i < capacity; i++) {
+            mask |= RingItemRegistry.flagsOfStack(container.getItemStack(i));
+        }
+        return mask & SCAN_BITS;
+    }
+}
@@ -0,0 +1,121 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RingItemRegistry - Central lookup of every item the mod cares about.
+ *
+ * Each known item ID maps to a set of flag bits (ring type, trigger item, pet
+ * summon, pedestal-allowed), so slot checks are a single primitive-valued hash
+ * lookup plus an int test instead of a chain of string compares. Keyed by item
+ * ID only, so it does not depend on assets; rebuilt when the night vision
+ * trigger item changes.
+ */
+public class RingItemRegistry {
+
+    public static final String FLY_RING = "Jewelry_Fly_Ring";
+    public static final String FIRE_RING = "Jewelry_Fire_Ring";
+    public static final String WATER_RING = "Jewelry_Water_Ring";
+    public static final String HEAL_RING = "Jewelry_Heal_Ring";
+    public static final String PEACEFUL_RING = "Jewelry_Peacefull_Ring";
+    public static final String GAIA_MEDALLION = "Jewelry_Gaia_Medallion";
+    public static final String DISPLAY_FLY = "Ring_Display_Fly";
+    public static final String FREE_PET = "Loot_Fox_Free";
+
+    // Ring bits are shared with RingUtils / RingInventoryCache masks
+    public static final int RING_BITS = RingUtils.RING_FLY | RingUtils.RING_FIRE | RingUtils.RING_WATER
+            | RingUtils.RING_HEAL | RingUtils.RING_PEACEFUL | RingUtils.RING_GAIA;
+    public static final int TRIGGER = RingUtils.TRIGGER_ITEM;
+    public static final int PET_SUMMON = 1 << 7;
+    public static final int PET_FREE = 1 << 8;
+    public static final int PEDESTAL_ALLOWED = 1 << 9;
+
+    /** Flags known at compile time (trigger item is added on build). */
+    private static final Map<String, Integer> BASE_FLAGS = new LinkedHashMap<>();
+
+    static {
+        BASE_FLAGS.put(FLY_RING, RingUtils.RING_FLY | PEDESTAL_ALLOWED);
+        BASE_FLAGS.put(FIRE_RING, RingUtils.RING_FIRE | PEDESTAL_ALLOWED);
+        BASE_FLAGS.put(WATER_RING, RingUtils.RING_WATER | PEDESTAL_ALLOWED);
+        BASE_FLAGS.put(HEAL_RING, RingUtils.RING_HEAL | PEDESTAL_ALLOWED);
+        BASE_FLAGS.put(PEACEFUL_RING, RingUtils.RING_PEACEFUL | PEDESTAL_ALLOWED);
+        BASE_FLAGS.put(GAIA_MEDALLION, RingUtils.RING_GAIA | PEDESTAL_ALLOWED);
+        BASE_FLAGS.put(DISPLAY_FLY, PEDESTAL_ALLOWED);
+        BASE_FLAGS.put(FREE_PET, PET_FREE);
+        for (VisPetToggleSystem.PetType type : VisPetToggleSystem.PET_TYPES) {
+            BASE_FLAGS.merge(type.itemId, PET_SUMMON, (a, b) -> a | b);
+        }
+    }
+
+    /**
+     * Immutable lookup table. Swapped as a whole on rebuild.
+     */
+    private static final class Table {
+        final Object2IntOpenHashMap<String> byId;
+        final String triggerId;
+
+        Table(Object2IntOpenHashMap<String> byId, String triggerId) {
+            this.byId = byId;
+            this.triggerId = triggerId;
+        }
+    }
+
+    private static volatile Table table;
+
+    /**
+     * Flags for an item ID (0 if the item is not one of ours).
+     */
+    public static int flagsOf(String itemId) {
+        if (itemId == null)
+            return 0;
+        return current().byId.getInt(itemId);
+    }
+
+    public static int flagsOfStack(ItemStack stack) {
+        if (ItemStack.isEmpty(stack))
+            return 0;
+        return flagsOf(stack.getItemId());
+    }
+
+    /**
+     * Rebuilds the table if the configured trigger item differs from the one it
+     * was built with. Cheap when nothing changed.
+     */
+    public static void syncTrigger(String triggerId) {
+        Table t = current();
+        if (triggerId == null ? t.triggerId != null : !triggerId.equals(t.triggerId)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the ID table. Called on first use and when the trigger item changes.
+     */
+    private static synchronized void rebuild() {
+        String triggerId = RingUtils.getTriggerItemId();
+
+        Object2IntOpenHashMap<String> byId = new Object2IntOpenHashMap<>(BASE_FLAGS.size() + 1);
+        byId.defaultReturnValue(0);
+        for (Map.Entry<String, Integer> e : BASE_FLAGS.entrySet()) {
+            byId.put(e.getKey(), e.getValue().intValue());
+        }
+        if (triggerId != null && !triggerId.isEmpty()) {
+            byId.put(triggerId, byId.getInt(triggerId) | TRIGGER);
+        }
+
+        table = new Table(byId, triggerId);
+    }
+
+    private static Table current() {
+        Table t = table;
+        if (t == null) {
+            rebuild();
+            t = table;
+        }
+        return t;
+    }
+}
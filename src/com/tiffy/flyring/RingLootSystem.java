@@ -5,20 +5,51 @@ import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 import javax.annotation.Nullable;
 
 /**
  * RingLootSystem - Handles ring drops from NPC deaths.
  *
- * Uses NPC-centric config: each NPC maps directly to its ring + drop rates.
- * No intermediate mapping needed - config.loot.npcs IS the lookup table.
+ * Uses NPC-centric config: each NPC maps to weighted loot pools (loot.tables)
+ * and/or simple ring + fragment entries (loot.npcs, migrated to one pool each).
+ * Everything is compiled into a role name -> CompiledPool[] table (item IDs
+ * resolved, one alias sampler per pool) as part of RuntimeConfig, so a kill only
+ * touches its own role's pools, each draw is O(1), and the table swaps
+ * atomically with the config.
  */
 public class RingLootSystem {
 
-    private static final String FRAGMENT_ITEM = "Ingredient_Stud_Iron";
     private final IllegalRings plugin;
 
+    /**
+     * One compiled weighted pool: parallel outcome arrays plus an alias sampler.
+     * itemIds[i] is null for "nothing" outcomes.
+     */
+    static final class CompiledPool {
+        final int rolls;
+        final String[] itemIds;
+        final boolean[] isRing;
+        final int[] minQuantity;
+        final int[] maxQuantity;
+        final AliasSampler sampler;
+
+        CompiledPool(int rolls, String[] itemIds, boolean[] isRing, int[] minQuantity, int[] maxQuantity,
+                AliasSampler sampler) {
+            this.rolls = rolls;
+            this.itemIds = itemIds;
+            this.isRing = isRing;
+            this.minQuantity = minQuantity;
+            this.maxQuantity = maxQuantity;
+            this.sampler = sampler;
+        }
+    }
+
     public RingLootSystem(IllegalRings plugin) {
         this.plugin = plugin;
         logMappings();
@@ -36,13 +67,93 @@ public class RingLootSystem {
         }
 
         int count = config.loot.npcs != null ? config.loot.npcs.size() : 0;
-        Log.info(plugin, "[RingLoot] Loaded " + count + " NPC loot entries");
+        int tables = config.loot.tables != null ? config.loot.tables.size() : 0;
+        Log.info(plugin, "[RingLoot] Loaded " + count + " NPC loot entries, " + tables + " loot tables");
+    }
+
+    /**
+     * Compiles the loot config into role name -> pools. Simple npcs entries are
+     * migrated to their equivalent single-roll pool (LootConfig.toPool) first, then
+     * the role's data-driven tables pools are appended.
+     * Called from RuntimeConfig whenever the config is published.
+     */
+    static Map<String, CompiledPool[]> compile(ModConfig.LootConfig loot) {
+        if (loot == null)
+            return Collections.emptyMap();
+
+        Map<String, List<CompiledPool>> byRole = new HashMap<>();
+        if (loot.npcs != null) {
+            for (ModConfig.NpcLootEntry npcLoot : loot.npcs) {
+                if (npcLoot == null || npcLoot.npc == null || npcLoot.ring == null)
+                    continue;
+                addPool(byRole, npcLoot.npc, ModConfig.LootConfig.toPool(npcLoot));
+            }
+        }
+        if (loot.tables != null) {
+            for (Map.Entry<String, List<ModConfig.LootPool>> entry : loot.tables.entrySet()) {
+                if (entry.getKey() == null || entry.getValue() == null)
+                    continue;
+                for (ModConfig.LootPool pool : entry.getValue()) {
+                    addPool(byRole, entry.getKey(), pool);
+                }
+            }
+        }
+
+        Map<String, CompiledPool[]> table = new HashMap<>();
+        for (Map.Entry<String, List<CompiledPool>> entry : byRole.entrySet()) {
+            table.put(entry.getKey(), entry.getValue().toArray(new CompiledPool[0]));
+        }
+        return Collections.unmodifiableMap(table);
+    }
+
+    private static void addPool(Map<String, List<CompiledPool>> byRole, String role, ModConfig.LootPool pool) {
+        CompiledPool compiled = compilePool(pool);
+        if (compiled != null) {
+            byRole.computeIfAbsent(role, k -> new ArrayList<>()).add(compiled);
+        }
+    }
+
+    /**
+     * Returns null for pools that can never drop anything (no rolls or no positive weight).
+     */
+    private static CompiledPool compilePool(ModConfig.LootPool pool) {
+        if (pool == null || pool.rolls <= 0 || pool.entries == null || pool.entries.isEmpty())
+            return null;
+
+        int n = pool.entries.size();
+        String[] itemIds = new String[n];
+        boolean[] isRing = new boolean[n];
+        int[] minQuantity = new int[n];
+        int[] maxQuantity = new int[n];
+        double[] weights = new double[n];
+        boolean dropsSomething = false;
+
+        for (int i = 0; i < n; i++) {
+            ModConfig.LootDrop drop = pool.entries.get(i);
+            if (drop == null)
+                continue;
+            String itemId = (drop.ring != null) ? getRingItemId(drop.ring) : drop.item;
+            if (itemId != null && itemId.isEmpty())
+                itemId = null;
+
+            itemIds[i] = itemId;
+            isRing[i] = itemId != null && (drop.ring != null
+                    || (RingItemRegistry.flagsOf(itemId) & RingItemRegistry.RING_BITS) != 0);
+            minQuantity[i] = Math.max(1, drop.minQuantity);
+            maxQuantity[i] = Math.max(minQuantity[i], drop.maxQuantity);
+            weights[i] = Math.max(0.0, drop.weight);
+            dropsSomething |= itemId != null && weights[i] > 0;
+        }
+        if (!dropsSomething)
+            return null;
+
+        return new CompiledPool(pool.rolls, itemIds, isRing, minQuantity, maxQuantity, new AliasSampler(weights));
     }
 
     /**
      * Maps ring type string to actual item ID.
      */
-    private String getRingItemId(String ringType) {
+    private static String getRingItemId(String ringType) {
         return switch (ringType.toLowerCase()) {
             case "fly" -> "Jewelry_Fly_Ring";
             case "fire" -> "Jewelry_Fire_Ring";
@@ -54,63 +165,66 @@ public class RingLootSystem {
         };
     }
 
+    /**
+     * Kill listener registered with NpcKillSystem.
+     */
+    public void onKill(NpcKillSystem.KillRecord kill) {
+        if (isEnabled()) {
+            onNpcDeath(kill.roleName, kill.position, kill.store, kill.killerRef);
+        }
+    }
+
     /**
      * Called when an NPC dies (detected via damage system).
      * @param killerRef The player who killed the NPC (for sound playback), can be null
      */
     public void onNpcDeath(String roleName, Vector3d position, Store<EntityStore> store, @Nullable Ref<EntityStore> killerRef) {
-        ModConfig.Config config = ModConfig.getInstance();
-        if (config == null || config.loot == null || !config.loot.enabled || config.loot.npcs == null) {
+        RuntimeConfig rc = ModConfig.runtime();
+        if (!rc.lootEnabled) {
             return;
         }
 
-        boolean debug = config.debugLogging;
-
         if (roleName == null || roleName.isEmpty()) {
-            if (debug) Log.info(plugin, "[RingLoot] NPC has no role name");
+            Log.debug(Log.Category.LOOT, () -> "[RingLoot] NPC has no role name");
             return;
         }
 
-        if (debug) Log.info(plugin, "[RingLoot] Processing death: " + roleName);
+        Log.debug(Log.Category.LOOT, () -> "[RingLoot] Processing death: " + roleName);
 
-        ThreadLocalRandom random = ThreadLocalRandom.current();
-        boolean found = false;
-
-        // Iterate all entries - same NPC can drop multiple rings
-        for (ModConfig.NpcLootEntry npcLoot : config.loot.npcs) {
-            if (npcLoot.npc == null || !npcLoot.npc.equals(roleName) || npcLoot.ring == null) continue;
-            found = true;
-
-            // 1. Check for direct ring drop
-            if (random.nextDouble() < npcLoot.directDropRate) {
-                String ringItemId = getRingItemId(npcLoot.ring);
-                if (ringItemId != null) {
-                    LootDropTickSystem.queueDrop(ringItemId, 1, position, killerRef, true);
-                    Log.info(plugin, "[RingLoot] RING DROP! " + roleName + " dropped " + ringItemId);
-                    continue;  // Got ring for this entry, skip fragment but check next entry
-                }
-            }
+        // Same NPC can drop multiple rings - one pool per loot entry
+        CompiledPool[] pools = rc.lootTable.get(roleName);
+        if (pools == null) {
+            Log.debug(Log.Category.LOOT, () -> "[RingLoot] NPC " + roleName + " not in loot table");
+            return;
+        }
 
-            // 2. Check for fragment drop (hardcoded Iron Stud)
-            if (random.nextDouble() < npcLoot.fragmentDropRate) {
-                LootDropTickSystem.queueDrop(FRAGMENT_ITEM, 1, position, killerRef, false);
-                if (debug) {
-                    Log.info(plugin, "[RingLoot] FRAGMENT DROP! " + roleName + " dropped " + FRAGMENT_ITEM);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (CompiledPool pool : pools) {
+            for (int roll = 0; roll < pool.rolls; roll++) {
+                int outcome = pool.sampler.sample(random);
+                String itemId = pool.itemIds[outcome];
+                if (itemId == null)
+                    continue; // "Nothing" outcome
+
+                int min = pool.minQuantity[outcome];
+                int max = pool.maxQuantity[outcome];
+                int quantity = (max > min) ? min + random.nextInt(max - min + 1) : min;
+                LootDropTickSystem.queueDrop(store, itemId, quantity, position, killerRef, pool.isRing[outcome]);
+
+                if (pool.isRing[outcome]) {
+                    Log.info(Log.Category.LOOT, () -> "[RingLoot] RING DROP! " + roleName + " dropped " + itemId);
+                } else {
+                    Log.debug(Log.Category.LOOT, () -> "[RingLoot] DROP! " + roleName + " dropped " + quantity + "x " + itemId);
                 }
             }
         }
-
-        if (!found && debug) {
-            Log.info(plugin, "[RingLoot] NPC " + roleName + " not in loot table");
-        }
     }
 
     /**
      * Check if loot system is enabled.
      */
     public boolean isEnabled() {
-        ModConfig.Config config = ModConfig.getInstance();
-        return config != null && config.loot != null && config.loot.enabled;
+        return ModConfig.runtime().lootEnabled;
     }
 
     /**
@@ -0,0 +1,115 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RingRefreshSystem - Coalesces ring status refreshes to once per player per tick.
+ *
+ * Inventory changes and pedestal updates only mark the player dirty. Each world
+ * tick drains the dirty players that live in that world and runs exactly one
+ * snapshot + handler fan-out for each of them, then flushes that world's
+ * night vision edges in one batch.
+ */
+public class RingRefreshSystem extends TickingSystem<EntityStore> {
+
+    private static final Set<UUID> dirtyPlayers = ConcurrentHashMap.newKeySet();
+
+    // Counters
+    private static final AtomicLong requested = new AtomicLong();
+    private static final AtomicLong coalesced = new AtomicLong();
+    private static final AtomicLong refreshed = new AtomicLong();
+
+    private final IllegalRings plugin;
+
+    public RingRefreshSystem(IllegalRings plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Request a ring status refresh for a player on the next tick of their world.
+     */
+    public static void markDirty(UUID uuid) {
+        if (uuid == null)
+            return;
+        requested.incrementAndGet();
+        if (!dirtyPlayers.add(uuid)) {
+            coalesced.incrementAndGet();
+        }
+    }
+
+    /**
+     * Drop a pending refresh (on disconnect).
+     */
+    public static void forget(UUID uuid) {
+        if (uuid != null) {
+            dirtyPlayers.remove(uuid);
+        }
+    }
+
+    public static long getRequestedCount() {
+        return requested.get();
+    }
+
+    public static long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    public static long getRefreshedCount() {
+        return refreshed.get();
+    }
+
+    @Override
+    public void tick(float delta, int systemIndex, @Nonnull Store<EntityStore> store) {
+        if (!dirtyPlayers.isEmpty()) {
+            drain(store);
+        }
+
+        // Night vision edges produced by this tick (or by direct calls) - one batch per world
+        RingUtils.flushNightVision(store);
+    }
+
+    private void drain(Store<EntityStore> store) {
+        Iterator<UUID> it = dirtyPlayers.iterator();
+        while (it.hasNext()) {
+            UUID uuid = it.next();
+            try {
+                PlayerRef playerRef = Universe.get().getPlayer(uuid);
+                if (playerRef == null) {
+                    it.remove(); // Player gone
+                    continue;
+                }
+
+                Ref<EntityStore> ref = playerRef.getReference();
+                if (ref == null || !ref.isValid()) {
+                    continue; // Between worlds - retry next tick
+                }
+                if (ref.getStore() != store) {
+                    continue; // Belongs to another world's tick
+                }
+
+                it.remove();
+                Player player = store.getComponent(ref, Player.getComponentType());
+                if (player != null) {
+                    plugin.applyRingStatus(player);
+                    refreshed.incrementAndGet();
+                }
+            } catch (Exception e) {
+                it.remove();
+                Log.severe(plugin, "[ERR-1006] Ring refresh failed for " + uuid + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.tiffy.flyring;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.entity.UUIDComponent;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * RingStateComponent - Bitmask of the rings currently active on a player.
+ *
+ * Written by the ring handlers' updateStatus (one bit per handler, Gaia and
+ * config already folded in). The damage, peaceful and attitude paths read it
+ * straight from the archetype chunk instead of hashing UUIDs into the handler sets.
+ * Also holds the player's night vision state (see RingUtils.checkNightVision).
+ */
+public class RingStateComponent implements Component<EntityStore> {
+
+    public static final int FLY = RingUtils.RING_FLY;
+    public static final int FIRE = RingUtils.RING_FIRE;
+    public static final int WATER = RingUtils.RING_WATER;
+    public static final int HEAL = RingUtils.RING_HEAL;
+    public static final int PEACEFUL = RingUtils.RING_PEACEFUL;
+
+    private int mask;
+    private boolean nightVision;
+
+    public int getMask() {
+        return mask;
+    }
+
+    public boolean has(int bit) {
+        return (mask & bit) != 0;
+    }
+
+    public void set(int bit, boolean active) {
+        if (active) {
+            mask |= bit;
+        } else {
+            mask &= ~bit;
+        }
+    }
+
+    public boolean isNightVision() {
+        return nightVision;
+    }
+
+    public void setNightVision(boolean nightVision) {
+        this.nightVision = nightVision;
+    }
+
+    @Override
+    public RingStateComponent clone() {
+        RingStateComponent copy = new RingStateComponent();
+        copy.mask = this.mask;
+        copy.nightVision = this.nightVision;
+        return copy;
+    }
+
+    /**
+     * Sets or clears one ring bit on the player's component.
+     * If the player has no component yet it is added on the world thread.
+     */
+    public static void update(Player player, int bit, boolean active) {
+        if (player == null || type == null)
+            return;
+        Ref<EntityStore> ref = player.getReference();
+        if (ref == null || !ref.isValid())
+            return;
+
+        Store<EntityStore> store = ref.getStore();
+        RingStateComponent state = store.getComponent(ref, type);
+        if (state != null) {
+            int before = state.getMask();
+            state.set(bit, active);
+            if (state.getMask() != before) {
+                publish(store, ref, state.getMask());
+            }
+            return;
+        }
+        if (!active)
+            return;
+
+        World world = ((EntityStore) store.getExternalData()).getWorld();
+        if (world == null)
+            return;
+        world.execute(() -> {
+            if (!ref.isValid())
+                return;
+            RingStateComponent existing = store.getComponent(ref, type);
+            if (existing != null) {
+                existing.set(bit, true);
+            } else {
+                existing = new RingStateComponent();
+                existing.set(bit, true);
+                store.putComponent(ref, type, existing);
+            }
+            publish(store, ref, existing.getMask());
+        });
+    }
+
+    /**
+     * Mirrors the mask into the world's RingHolderResource (world thread only).
+     */
+    private static void publish(Store<EntityStore> store, Ref<EntityStore> ref, int mask) {
+        try {
+            RingHolderResource holders = store.getResource(RingHolderResource.getResourceType());
+            UUIDComponent uuidComp = store.getComponent(ref, UUIDComponent.getComponentType());
+            if (holders != null && uuidComp != null) {
+                holders.set(uuidComp.getUuid(), mask);
+            }
+        } catch (Exception ignored) {
+            // Resource not registered for this store
+        }
+    }
+
+    // Static helper to get component type (registered in IllegalRings)
+    private static ComponentType<EntityStore, RingStateComponent> type;
+
+    public static void setComponentType(ComponentType<EntityStore, RingStateComponent> type) {
+        RingStateComponent.type = type;
+    }
+
+    public static ComponentType<EntityStore, RingStateComponent> getComponentType() {
+        return type;
+    }
+}
@@ -7,16 +7,14 @@ import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.inventory.Inventory;
-import com.hypixel.hytale.server.core.inventory.ItemStack;
-import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
 import com.hypixel.hytale.server.core.modules.entity.component.DynamicLight;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.core.Constants;
 
 import java.awt.Color;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -24,8 +22,29 @@ import java.util.UUID;
  */
 public class RingUtils {
 
-    private static final String GAIA_MEDALLION_ID = "Jewelry_Gaia_Medallion";
-    private static final Set<UUID> activeNightVisionPlayers = new HashSet<>();
+    // Night vision edge waiting in its world's NightVisionResource (one world.execute per world per tick)
+    static final class NightVisionTransition {
+        final Player player;
+        final Ref<EntityStore> ref;
+        final Store<EntityStore> store;
+        final boolean on;
+
+        NightVisionTransition(Player player, Ref<EntityStore> ref, Store<EntityStore> store, boolean on) {
+            this.player = player;
+            this.ref = ref;
+            this.store = store;
+            this.on = on;
+        }
+    }
+
+    // Bits used by RingInventoryCache masks
+    public static final int RING_FLY = 1;
+    public static final int RING_FIRE = 1 << 1;
+    public static final int RING_WATER = 1 << 2;
+    public static final int RING_HEAL = 1 << 3;
+    public static final int RING_PEACEFUL = 1 << 4;
+    public static final int RING_GAIA = 1 << 5;
+    public static final int TRIGGER_ITEM = 1 << 6;
 
     public static class RingSnapshot {
         public boolean hasFly;
@@ -36,18 +55,49 @@ public class RingUtils {
         public boolean hasGaia;
         public int triggerItemCount;
 
-        public boolean hasRing(String ringId) {
+        public static RingSnapshot fromMask(int mask) {
+            RingSnapshot snapshot = new RingSnapshot();
+            snapshot.hasFly = (mask & RING_FLY) != 0;
+            snapshot.hasFire = (mask & RING_FIRE) != 0;
+            snapshot.hasWater = (mask & RING_WATER) != 0;
+            snapshot.hasHeal = (mask & RING_HEAL) != 0;
+            snapshot.hasPeaceful = (mask & RING_PEACEFUL) != 0;
+            snapshot.hasGaia = (mask & RING_GAIA) != 0;
+            snapshot.triggerItemCount = (mask & TRIGGER_ITEM) != 0 ? 1 : 0;
+            return snapshot;
+        }
+
+        /**
+         * ORs ring bits (RING_*) into this snapshot.
+         */
+        public void merge(int mask) {
+            hasFly |= (mask & RING_FLY) != 0;
+            hasFire |= (mask & RING_FIRE) != 0;
+            hasWater |= (mask & RING_WATER) != 0;
+            hasHeal |= (mask & RING_HEAL) != 0;
+            hasPeaceful |= (mask & RING_PEACEFUL) != 0;
+            hasGaia |= (mask & RING_GAIA) != 0;
+        }
+
+        /**
+         * @param ringBit one of the RING_* bits
+         */
+        public boolean hasRing(int ringBit) {
             if (hasGaia)
                 return true;
-            return switch (ringId) {
-                case "Jewelry_Fly_Ring" -> hasFly;
-                case "Jewelry_Fire_Ring" -> hasFire;
-                case "Jewelry_Water_Ring" -> hasWater;
-                case "Jewelry_Heal_Ring" -> hasHeal;
-                case "Jewelry_Peacefull_Ring" -> hasPeaceful;
+            return switch (ringBit) {
+                case RING_FLY -> hasFly;
+                case RING_FIRE -> hasFire;
+                case RING_WATER -> hasWater;
+                case RING_HEAL -> hasHeal;
+                case RING_PEACEFUL -> hasPeaceful;
                 default -> false;
             };
         }
+
+        public boolean hasRing(String ringId) {
+            return hasRing(RingItemRegistry.flagsOf(ringId) & RingItemRegistry.RING_BITS);
+        }
     }
 
     /**
@@ -62,6 +112,16 @@ public class RingUtils {
         return (uuidComp != null) ? uuidComp.getUuid() : null;
     }
 
+    /**
+     * UUID of an entity ref (null if it has no UUIDComponent).
+     */
+    public static UUID getUUID(Ref<EntityStore> ref, Store<EntityStore> store) {
+        if (ref == null || !ref.isValid())
+            return null;
+        UUIDComponent uuidComp = store.getComponent(ref, UUIDComponent.getComponentType());
+        return (uuidComp != null) ? uuidComp.getUuid() : null;
+    }
+
     /**
      * Modern replacement for player.getPlayerRef().getUsername() which is
      * deprecated.
@@ -73,54 +133,24 @@ public class RingUtils {
         return player.getDisplayName();
     }
 
-    /**
-     * Checks if the player has the specified ring in any of their inventory
-     * containers
-     * (Hotbar, Storage, Backpack, Armor, Utility).
-     *
-     * @param player the player to check
-     * @param ringId the ID of the ring to look for
-     * @return true if the player has the ring, false otherwise
-     */
-
     /**
      * Performs a single-pass scan of the player's inventory to find all mod-related
      * items. Also checks pedestals owned by this player.
+     * The inventory part is served from RingInventoryCache (O(1) unless drifted).
      */
     public static RingSnapshot getRingSnapshot(Player player) {
-        RingSnapshot snapshot = new RingSnapshot();
         if (player == null)
-            return snapshot;
+            return new RingSnapshot();
 
         Inventory inv = player.getInventory();
         if (inv == null)
-            return snapshot;
-
-        String triggerId = "Furniture_Crude_Torch";
-        try {
-            if (ModConfig.getInstance() != null && ModConfig.getInstance().gameplay != null) {
-                triggerId = ModConfig.getInstance().gameplay.nightVisionTriggerItem;
-            }
-        } catch (Throwable ignored) {
-        }
+            return new RingSnapshot();
 
         UUID uuid = getUUID(player);
-        boolean backpackEnabled = (uuid != null) && PlayerSettings.isBackpackEnabled(uuid);
-
-        // Scan all containers in one go
-        scanContainer(inv.getHotbar(), snapshot, triggerId);
-        scanContainer(inv.getStorage(), snapshot, triggerId);
-        if (backpackEnabled)
-            scanContainer(inv.getBackpack(), snapshot, triggerId);
-
-        try {
-            scanContainer(inv.getArmor(), snapshot, triggerId);
-        } catch (Throwable ignored) {
-        }
-        try {
-            scanContainer(inv.getUtility(), snapshot, triggerId);
-        } catch (Throwable ignored) {
-        }
+        int mask = (uuid != null)
+                ? RingInventoryCache.getMask(player, uuid)
+                : RingInventoryCache.scanInventory(inv, false);
+        RingSnapshot snapshot = RingSnapshot.fromMask(mask);
 
         // Also check pedestals owned by this player
         if (uuid != null) {
@@ -131,66 +161,25 @@ public class RingUtils {
     }
 
     /**
-     * Scans all VERIFIED pedestals owned by the player and adds their ring effects.
+     * Current night vision trigger item from config (defaults to Crude Torch).
+     */
+    static String getTriggerItemId() {
+        return ModConfig.runtime().nightVisionTriggerItem;
+    }
+
+    /**
+     * Adds the ring effects of all VERIFIED pedestals owned by the player.
      * Only pedestals with complete multiblock structures grant effects.
+     * Served from the per-owner mask cache in PedestalRegistry.
      */
     private static void scanPedestals(UUID playerUuid, RingSnapshot snapshot) {
         try {
-            String playerUuidStr = playerUuid.toString();
-            for (PedestalRegistry.PedestalData pedestal : PedestalRegistry.getAll().values()) {
-                if (pedestal.ownerUuid == null || pedestal.item == null || pedestal.item.isEmpty()) {
-                    continue;
-                }
-                if (!playerUuidStr.equals(pedestal.ownerUuid)) {
-                    continue;
-                }
-                // Only verified pedestals grant effects
-                if (!pedestal.verified) {
-                    continue;
-                }
-                // This verified pedestal belongs to the player and has an item
-                switch (pedestal.item) {
-                    case "Jewelry_Fly_Ring" -> snapshot.hasFly = true;
-                    case "Jewelry_Fire_Ring" -> snapshot.hasFire = true;
-                    case "Jewelry_Water_Ring" -> snapshot.hasWater = true;
-                    case "Jewelry_Heal_Ring" -> snapshot.hasHeal = true;
-                    case "Jewelry_Peacefull_Ring" -> snapshot.hasPeaceful = true;
-                    case "Jewelry_Gaia_Medallion" -> snapshot.hasGaia = true;
-                }
-            }
+            snapshot.merge(PedestalRegistry.getVerifiedRingMask(playerUuid));
         } catch (Throwable ignored) {
             // PedestalRegistry might not be initialized
         }
     }
 
-    private static void scanContainer(ItemContainer container, RingSnapshot snapshot, String triggerId) {
-        if (container == null)
-            return;
-
-        for (short i = 0; i < container.getCapacity(); i++) {
-            ItemStack stack = container.getItemStack(i);
-            if (stack != null && !stack.isEmpty()) {
-                String id = stack.getItemId();
-                if (id == null)
-                    continue;
-
-                switch (id) {
-                    case "Jewelry_Fly_Ring" -> snapshot.hasFly = true;
-                    case "Jewelry_Fire_Ring" -> snapshot.hasFire = true;
-                    case "Jewelry_Water_Ring" -> snapshot.hasWater = true;
-                    case "Jewelry_Heal_Ring" -> snapshot.hasHeal = true;
-                    case "Jewelry_Peacefull_Ring" -> snapshot.hasPeaceful = true;
-                    case "Jewelry_Gaia_Medallion" -> snapshot.hasGaia = true;
-                    default -> {
-                        if (id.equals(triggerId)) {
-                            snapshot.triggerItemCount = 1; // For now binary, can be changed to count
-                        }
-                    }
-                }
-            }
-        }
-    }
-
     /**
      * Check if player should have Night Vision (has ring + trigger item).
      * Only works in Singleplayer - disabled in SMP due to world-wide light effect.
@@ -203,15 +192,7 @@ public class RingUtils {
         }
 
         // Check if Night Vision is enabled in config
-        boolean nvEnabled = true;
-        try {
-            if (ModConfig.getInstance() != null && ModConfig.getInstance().gameplay != null) {
-                nvEnabled = ModConfig.getInstance().gameplay.nightVisionEnabled;
-            }
-        } catch (Throwable ignored) {
-        }
-
-        if (!nvEnabled) {
+        if (!ModConfig.runtime().nightVisionEnabled) {
             setNightVision(player, 0);
             return;
         }
@@ -228,10 +209,11 @@ public class RingUtils {
 
     /**
      * Apply or remove Night Vision effect.
+     * Edge-triggered: the state lives in RingStateComponent and only an off->on or
+     * on->off change queues work. Queued edges are applied by flushNightVision.
      */
     public static void setNightVision(Player player, int triggerItemCount) {
-        UUID uuid = getUUID(player);
-        if (uuid == null)
+        if (player == null)
             return;
 
         Ref<EntityStore> playerRef = player.getReference();
@@ -239,35 +221,64 @@ public class RingUtils {
             return;
 
         Store<EntityStore> store = playerRef.getStore();
-        World world = ((EntityStore) store.getExternalData()).getWorld();
+        RingStateComponent state = store.getComponent(playerRef, RingStateComponent.getComponentType());
+        if (state == null)
+            return;
+
+        boolean on = triggerItemCount > 0;
+        if (state.isNightVision() == on)
+            return; // Steady state - nothing to do
+
+        NightVisionResource queue = NightVisionResource.of(store);
+        if (queue == null)
+            return; // Leave the state unchanged so the edge is retried on the next check
 
-        boolean currentlyHas = activeNightVisionPlayers.contains(uuid);
+        state.setNightVision(on);
+        queue.pending.add(new NightVisionTransition(player, playerRef, store, on));
+    }
+
+    /**
+     * Applies all queued night vision edges for one world in a single batch.
+     * Called once per tick by RingRefreshSystem.
+     */
+    static void flushNightVision(Store<EntityStore> store) {
+        NightVisionResource queue = store.getResource(NightVisionResource.getResourceType());
+        if (queue == null || queue.pending.isEmpty())
+            return;
+
+        List<NightVisionTransition> batch = new ArrayList<>();
+        NightVisionTransition edge;
+        while ((edge = queue.pending.poll()) != null) {
+            batch.add(edge);
+        }
+
+        World world = ((EntityStore) store.getExternalData()).getWorld();
+        if (world == null)
+            return;
 
         world.execute(() -> {
-            if (triggerItemCount > 0) {
-                // Trigger item present = Full Bright
-                ColorLight nightVisionLight = new ColorLight((byte) 15, (byte) 255, (byte) 255, (byte) 255);
-                store.putComponent(playerRef, DynamicLight.getComponentType(), new DynamicLight(nightVisionLight));
-
-                if (!currentlyHas) {
-                    activeNightVisionPlayers.add(uuid);
-                    player.sendMessage(
-                            Message.raw("[Rings] Trigger item detected: Night Vision ACTIVE").color(Color.CYAN));
-                }
-            } else {
-                if (currentlyHas) {
-                    activeNightVisionPlayers.remove(uuid);
-                    store.tryRemoveComponent(playerRef, DynamicLight.getComponentType());
-                    player.sendMessage(Message.raw("[Rings] Trigger item removed: Night Vision OFF").color(Color.GRAY));
+            for (NightVisionTransition t : batch) {
+                try {
+                    if (!t.ref.isValid())
+                        continue;
+                    if (t.on) {
+                        // Trigger item present = Full Bright
+                        ColorLight nightVisionLight = new ColorLight((byte) 15, (byte) 255, (byte) 255, (byte) 255);
+                        t.store.putComponent(t.ref, DynamicLight.getComponentType(), new DynamicLight(nightVisionLight));
+                        t.player.sendMessage(
+                                Message.raw("[Rings] Trigger item detected: Night Vision ACTIVE").color(Color.CYAN));
+                    } else {
+                        t.store.tryRemoveComponent(t.ref, DynamicLight.getComponentType());
+                        t.player.sendMessage(
+                                Message.raw("[Rings] Trigger item removed: Night Vision OFF").color(Color.GRAY));
+                    }
+                } catch (Exception ignored) {
+                    // Entity removed mid-batch
                 }
             }
         });
     }
 
-    public static void cleanupNightVision(UUID uuid) {
-        activeNightVisionPlayers.remove(uuid);
-    }
-
     /**
      * @deprecated Use RingSnapshot where possible for performance.
      */
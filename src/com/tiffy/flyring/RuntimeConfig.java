@@ -0,0 +1,77 @@
+package com.tiffy.flyring;
+
+import java.util.Map;
+
+/**
+ * RuntimeConfig - Immutable, flattened view of ModConfig for hot paths.
+ *
+ * Built from the live Config on load, save and every config UI change, then
+ * published through a single volatile reference (ModConfig.runtime()). Readers
+ * grab it once per call and never see a half-edited config.
+ */
+public final class RuntimeConfig {
+
+    public final boolean flyRing;
+    public final boolean fireRing;
+    public final boolean waterRing;
+    public final boolean healRing;
+    public final boolean peacefulRing;
+    /** True if at least one ring is enabled - global fast exit. */
+    public final boolean anyRingEnabled;
+
+    public final float lifestealPercent;
+    /** Window in which every NPC's TargetMemory is checked once (0 = every tick). */
+    public final int peacefulClearWindowMs;
+    /** Radius of the one-shot target purge when the Peaceful Ring is equipped. */
+    public final double peacefulPurgeRadius;
+    public final boolean nightVisionEnabled;
+    public final String nightVisionTriggerItem;
+
+    public final boolean playerImmunities;
+    public final boolean attackerEffects;
+    public final boolean npcKillDetection;
+
+    public final boolean lootEnabled;
+    /** NPC role name -> compiled loot pools (see RingLootSystem.compile). */
+    final Map<String, RingLootSystem.CompiledPool[]> lootTable;
+    /** Same-tick drops of one item within this radius are merged into one stack (0 = off). */
+    public final double lootCoalesceRadius;
+    public final boolean debugLogging;
+
+    private RuntimeConfig(ModConfig.Config cfg) {
+        // No config (or no enabled section) means every ring is off, as the live-config checks did
+        ModConfig.RingEnabled enabled = (cfg != null) ? cfg.enabled : null;
+        ModConfig.GameplayValues gameplay = (cfg != null && cfg.gameplay != null) ? cfg.gameplay
+                : new ModConfig.GameplayValues();
+
+        this.flyRing = enabled != null && enabled.flyRing;
+        this.fireRing = enabled != null && enabled.fireRing;
+        this.waterRing = enabled != null && enabled.waterRing;
+        this.healRing = enabled != null && enabled.healRing;
+        this.peacefulRing = enabled != null && enabled.peacefulRing;
+        this.anyRingEnabled = flyRing || fireRing || waterRing || healRing || peacefulRing
+                || (enabled != null && enabled.gaiaMedallion);
+
+        this.lifestealPercent = (float) gameplay.lifestealPercent;
+        this.peacefulClearWindowMs = Math.max(0, gameplay.peacefulClearWindowMs);
+        this.peacefulPurgeRadius = Math.max(0, gameplay.peacefulPurgeRadius);
+        this.nightVisionEnabled = gameplay.nightVisionEnabled;
+        this.nightVisionTriggerItem = (gameplay.nightVisionTriggerItem != null) ? gameplay.nightVisionTriggerItem
+                : "Furniture_Crude_Torch";
+
+        ModConfig.DamageStages stages = (cfg != null && cfg.damageStages != null) ? cfg.damageStages
+                : new ModConfig.DamageStages();
+        this.playerImmunities = stages.playerImmunities;
+        this.attackerEffects = stages.attackerEffects;
+        this.npcKillDetection = stages.npcKillDetection;
+
+        this.lootEnabled = cfg != null && cfg.loot != null && cfg.loot.enabled;
+        this.lootTable = RingLootSystem.compile(cfg != null ? cfg.loot : null);
+        this.lootCoalesceRadius = (cfg != null && cfg.loot != null) ? Math.max(0, cfg.loot.coalesceRadius) : 0;
+        this.debugLogging = cfg != null && cfg.debugLogging;
+    }
+
+    static RuntimeConfig from(ModConfig.Config cfg) {
+        return new RuntimeConfig(cfg);
+    }
+}
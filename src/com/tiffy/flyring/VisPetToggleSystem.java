@@ -238,19 +238,13 @@ public class VisPetToggleSystem extends EntityTickingSystem<EntityStore> {
                 || containsAnyItem(player.getInventory().getStorage());
     }
 
-    private static final String FREE_PET_ITEM_ID = "Loot_Fox_Free";
+    private static final String FREE_PET_ITEM_ID = RingItemRegistry.FREE_PET;
+    private static final int PET_ITEM_FLAGS = RingItemRegistry.PET_SUMMON | RingItemRegistry.PET_FREE;
 
     private boolean containsAnyItem(ItemContainer container) {
         short capacity = container.getCapacity();
         for (short s = 0; s < capacity; s++) {
-            ItemStack stack = container.getItemStack(s);
-            if (!ItemStack.isEmpty(stack)) {
-                String id = stack.getItemId();
-                if (FREE_PET_ITEM_ID.equals(id)) return true;
-                for (PetType type : PET_TYPES) {
-                    if (type.itemId.equals(id)) return true;
-                }
-            }
+            if ((RingItemRegistry.flagsOfStack(container.getItemStack(s)) & PET_ITEM_FLAGS) != 0) return true;
         }
         return false;
     }
@@ -339,8 +333,7 @@ public class VisPetToggleSystem extends EntityTickingSystem<EntityStore> {
         for (ItemContainer container : containers) {
             if (container == null) continue;
             for (short s = 0; s < container.getCapacity(); s++) {
-                ItemStack stack = container.getItemStack(s);
-                if (!ItemStack.isEmpty(stack) && FREE_PET_ITEM_ID.equals(stack.getItemId())) return true;
+                if ((RingItemRegistry.flagsOfStack(container.getItemStack(s)) & RingItemRegistry.PET_FREE) != 0) return true;
             }
         }
         return false;
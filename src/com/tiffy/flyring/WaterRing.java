@@ -12,7 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * WaterRing - Handler for the Water Ring.
  * Manages the list of immune players based on inventory contents.
- * Damage filtering (drowning) is performed by RingDamageSystem.
+ * Damage filtering (drowning) is performed by RingImmunitySystem.
  */
 public class WaterRing {
 
@@ -47,11 +47,8 @@ public class WaterRing {
             return;
 
         boolean hasWaterRing = snapshot.hasWater || snapshot.hasGaia;
-        if (hasWaterRing) {
-            ModConfig.Config mcfg = ModConfig.getInstance();
-            if (mcfg != null && mcfg.enabled != null && !mcfg.enabled.waterRing) {
-                hasWaterRing = false;
-            }
+        if (hasWaterRing && !ModConfig.runtime().waterRing) {
+            hasWaterRing = false;
         }
         UUID uuid = RingUtils.getUUID(player);
         if (uuid == null) {
@@ -59,15 +56,17 @@ public class WaterRing {
             return;
         }
 
+        RingStateComponent.update(player, RingStateComponent.WATER, hasWaterRing);
+
         if (hasWaterRing) {
             if (waterImmunePlayers.add(uuid)) {
                 AnalyticsClient.reportRingState("WATER_RING", true);
-                Log.info(plugin, "[WaterRing] " + RingUtils.getUsername(player) + " equipped water ring");
+                Log.info(Log.Category.RINGS, () -> "[WaterRing] " + RingUtils.getUsername(player) + " equipped water ring");
             }
         } else {
             if (waterImmunePlayers.remove(uuid)) {
                 AnalyticsClient.reportRingState("WATER_RING", false);
-                Log.info(plugin, "[WaterRing] " + RingUtils.getUsername(player) + " removed water ring");
+                Log.info(Log.Category.RINGS, () -> "[WaterRing] " + RingUtils.getUsername(player) + " removed water ring");
             }
         }
     }